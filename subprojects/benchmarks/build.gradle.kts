@@ -0,0 +1,24 @@
+plugins {
+    alias(libs.plugins.convention.base.module)
+    alias(libs.plugins.convention.kotlin.jvm)
+    alias(libs.plugins.kotlinx.serialization)
+    alias(libs.plugins.jmh)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    benchmarkMode = listOf("avgt")
+    timeUnit = "ns"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
+dependencies {
+    jmhImplementation(project(":types"))
+    jmhImplementation(project(":types-kotlinx-serialization"))
+    jmhImplementation(libs.kotlinx.serialization.json)
+}
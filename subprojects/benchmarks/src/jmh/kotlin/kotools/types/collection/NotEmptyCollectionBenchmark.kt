@@ -0,0 +1,98 @@
+package kotools.types.collection
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+// Benchmarks return the underlying representation of inline value classes,
+// because JMH can't call the mangled JVM methods returning these types.
+@State(Scope.Benchmark)
+public open class NotEmptyCollectionBenchmark {
+    @Param("10", "1000")
+    public var size: Int = 0
+
+    private var elements: List<Int> = emptyList()
+    private var entries: Map<Int, String> = emptyMap()
+    private var list: NotEmptyList<Int> = notEmptyListOf(0)
+    private var set: NotEmptySet<Int> = notEmptySetOf(0)
+    private var map: NotEmptyMap<Int, String> = notEmptyMapOf(0 to "0")
+
+    @Setup
+    public fun setUp() {
+        this.elements = List(this.size) { it }
+        this.entries = this.elements.associateWith(Int::toString)
+        this.list = this.elements.toNotEmptyList()
+            .getOrThrow()
+        this.set = this.elements.toNotEmptySet()
+            .getOrThrow()
+        this.map = this.entries.toNotEmptyMap()
+            .getOrThrow()
+    }
+
+    // ------------------------------ NotEmptyList -----------------------------
+
+    @Benchmark
+    public fun notEmptyListOfHeadAndTail(): List<Int> = notEmptyListOf(1, 2, 3)
+        .toList()
+
+    @Benchmark
+    public fun toNotEmptyList(): List<Int>? = this.elements.toNotEmptyList()
+        .getOrNull()
+        ?.toList()
+
+    @Benchmark
+    public fun listTail(): List<Int>? = this.list.tail?.toList()
+
+    @Benchmark
+    public fun listSize(): Int = this.list.size.toInt()
+
+    @Benchmark
+    public fun listHeadTailTraversal(): Int {
+        var sum = 0
+        var current: NotEmptyList<Int>? = this.list
+        while (current != null) {
+            sum += current.head
+            current = current.tail
+        }
+        return sum
+    }
+
+    // ------------------------------ NotEmptySet ------------------------------
+
+    @Benchmark
+    public fun toNotEmptySet(): Set<Int>? = this.elements.toNotEmptySet()
+        .getOrNull()
+        ?.toSet()
+
+    @Benchmark
+    public fun setTail(): Set<Int>? = this.set.tail?.toSet()
+
+    @Benchmark
+    public fun setSize(): Int = this.set.size.toInt()
+
+    // ------------------------------ NotEmptyMap ------------------------------
+
+    @Benchmark
+    public fun toNotEmptyMap(): Map<Int, String>? = this.entries
+        .toNotEmptyMap()
+        .getOrNull()
+        ?.toMap()
+
+    @Benchmark
+    public fun mapTail(): Map<Int, String>? = this.map.tail?.toMap()
+
+    @Benchmark
+    public fun mapEntries(): Set<Map.Entry<Int, String>> = this.map.entries
+        .toSet()
+
+    @Benchmark
+    public fun mapKeys(): Set<Int> = this.map.keys.toSet()
+
+    @Benchmark
+    public fun mapValues(): List<String> = this.map.values.toList()
+
+    @Benchmark
+    public fun mapSize(): Int = this.map.size.toInt()
+}
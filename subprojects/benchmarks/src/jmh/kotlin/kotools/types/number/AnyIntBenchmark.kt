@@ -0,0 +1,91 @@
+package kotools.types.number
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+// Benchmarks return the underlying representation of inline value classes,
+// because JMH can't call the mangled JVM methods returning these types.
+@OptIn(ExperimentalKotoolsTypesApi::class)
+@State(Scope.Benchmark)
+public open class AnyIntBenchmark {
+    @Param("42", "-42")
+    public var value: Int = 0
+
+    private var x: StrictlyPositiveInt = StrictlyPositiveInt.min
+    private var y: StrictlyPositiveInt = StrictlyPositiveInt.max
+
+    @Setup
+    public fun setUp() {
+        this.x = 1.toStrictlyPositiveInt()
+            .getOrThrow()
+        this.y = 2.toStrictlyPositiveInt()
+            .getOrThrow()
+    }
+
+    // ------------------------------- Creations -------------------------------
+
+    @Benchmark
+    public fun toStrictlyPositiveInt(): Int? = this.value
+        .toStrictlyPositiveInt()
+        .getOrNull()
+        ?.toInt()
+
+    @Benchmark
+    public fun toPositiveInt(): Int? = this.value.toPositiveInt()
+        .getOrNull()
+        ?.toInt()
+
+    @Benchmark
+    public fun toNonZeroInt(): Int? = this.value.toNonZeroInt()
+        .getOrNull()
+        ?.toInt()
+
+    @Benchmark
+    public fun toNegativeInt(): Int? = this.value.toNegativeInt()
+        .getOrNull()
+        ?.toInt()
+
+    @Benchmark
+    public fun toStrictlyNegativeInt(): Int? = this.value
+        .toStrictlyNegativeInt()
+        .getOrNull()
+        ?.toInt()
+
+    // ------------------------------ Comparisons ------------------------------
+
+    @Benchmark
+    public fun compareTo(): Int = this.x.compareTo(this.y)
+
+    // ------------------------- Arithmetic operations -------------------------
+
+    @Benchmark
+    public fun plus(): Int = this.x + this.y
+
+    @Benchmark
+    public fun plusExact(): Int = this.x.plusExact(this.y)
+        .toInt()
+
+    @Benchmark
+    public fun plusSaturating(): Int = this.x.plusSaturating(this.y)
+        .toInt()
+
+    @Benchmark
+    public fun minus(): Int = this.x - this.y
+
+    @Benchmark
+    public fun times(): Int = this.x * this.y
+
+    @Benchmark
+    public fun timesExact(): Int = this.x.timesExact(this.y)
+        .toInt()
+
+    @Benchmark
+    public fun div(): Int = (this.x / this.y).toInt()
+
+    @Benchmark
+    public fun rem(): Int = (this.x % this.y).toInt()
+}
@@ -0,0 +1,39 @@
+package kotools.types.result
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.State
+
+// Benchmarks return the underlying representation of inline value classes,
+// because JMH can't call the mangled JVM methods returning these types.
+@OptIn(ExperimentalKotoolsTypesApi::class)
+@State(Scope.Benchmark)
+public open class ValidationBenchmark {
+    @Param("Kotools", " ")
+    public var name: String = ""
+
+    @Param("42", "-42")
+    public var age: Int = 0
+
+    @Benchmark
+    public fun resultContext(): String? = resultOf {
+        val name: String = this@ValidationBenchmark.name.toNotBlankString()
+            .toString()
+        val age: Int = this@ValidationBenchmark.age.toStrictlyPositiveInt()
+            .toInt()
+        "$name ($age)"
+    }.getOrNull()
+
+    @Benchmark
+    public fun validationContext(): String? = validationOf {
+        val name: String = this@ValidationBenchmark.name.toNotBlankString()
+            ?.toString()
+            ?: return@validationOf null
+        val age: Int = this@ValidationBenchmark.age.toStrictlyPositiveInt()
+            ?.toInt()
+            ?: return@validationOf null
+        "$name ($age)"
+    }.getOrNull()
+}
@@ -0,0 +1,65 @@
+package org.kotools.types
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+@State(Scope.Benchmark)
+public open class EmailAddressBenchmark {
+    @Param("contact@kotools.org", "not an email address")
+    public var text: String = ""
+
+    private lateinit var regex: EmailAddressRegex
+    private lateinit var defaultRegex: EmailAddressRegex
+    private lateinit var defaultPatternEngine: Regex
+    private lateinit var texts: List<String>
+
+    @Setup
+    public fun setUp() {
+        this.regex = EmailAddressRegex.alphanumeric()
+        this.defaultRegex = EmailAddressRegex.default()
+        this.defaultPatternEngine = Regex(this.defaultRegex.toString())
+        this.texts = List(1000) {
+            if (it % 10 == 0) "invalid contact $it"
+            else "contact$it@kotools.org"
+        }
+    }
+
+    // ------------------------------- Creations -------------------------------
+
+    @Benchmark
+    public fun ofText(): EmailAddress? = EmailAddress.of(this.text)
+
+    @Benchmark
+    public fun ofTextRegex(): EmailAddress? =
+        EmailAddress.of(this.text, this.regex)
+
+    @Benchmark
+    public fun ofTextBatch(): Int =
+        this.texts.count { EmailAddress.of(it) != null }
+
+    @Benchmark
+    public fun regexDefault(): EmailAddressRegex = EmailAddressRegex.default()
+
+    @Benchmark
+    public fun regexOf(): EmailAddressRegex? =
+        EmailAddressRegex.of("""^[a-z]+@kotools\.org$""")
+
+    // ---------------------- Pattern matching operations ----------------------
+
+    @Benchmark
+    public fun regexMatches(): Boolean = this.regex matches this.text
+
+    @Benchmark
+    public fun defaultRegexMatches(): Boolean =
+        this.defaultRegex matches this.text
+
+    // Baseline for defaultRegexMatches, running the default pattern through
+    // the regex engine instead of the hand-written validator.
+    @Benchmark
+    public fun defaultPatternEngineMatches(): Boolean =
+        this.defaultPatternEngine matches this.text
+}
@@ -0,0 +1,164 @@
+package org.kotools.types.kotlinx.serialization
+
+import kotlinx.serialization.ContextualSerializer
+import kotlinx.serialization.KSerializer
+import kotlinx.serialization.builtins.serializer
+import kotlinx.serialization.json.Json
+import kotools.types.collection.NotEmptyList
+import kotools.types.collection.NotEmptyMap
+import kotools.types.collection.NotEmptySet
+import kotools.types.collection.toNotEmptyList
+import kotools.types.collection.toNotEmptyMap
+import kotools.types.collection.toNotEmptySet
+import kotools.types.number.StrictlyPositiveInt
+import kotools.types.text.NotBlankString
+import kotools.types.text.toNotBlankString
+import org.kotools.types.EmailAddress
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.kotools.types.number.Integer
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+// Benchmarks return the underlying representation of inline value classes,
+// because JMH can't call the mangled JVM methods returning these types.
+@OptIn(ExperimentalKotoolsTypesApi::class)
+@State(Scope.Benchmark)
+public open class SerializationBenchmark {
+    @Param("10", "1000")
+    public var size: Int = 0
+
+    private val json: Json = Json {
+        this.serializersModule = KotoolsTypesSerializersModule()
+    }
+
+    private val integerSerializer: KSerializer<Integer> =
+        ContextualSerializer(Integer::class)
+    private val emailAddressSerializer: KSerializer<EmailAddress> =
+        ContextualSerializer(EmailAddress::class)
+    private val listSerializer: KSerializer<NotEmptyList<Int>> =
+        NotEmptyList.serializer(Int.serializer())
+    private val setSerializer: KSerializer<NotEmptySet<Int>> =
+        NotEmptySet.serializer(Int.serializer())
+    private val mapSerializer: KSerializer<NotEmptyMap<String, Int>> =
+        NotEmptyMap.serializer(String.serializer(), Int.serializer())
+
+    private var encodedInteger: String = ""
+    private var encodedEmailAddress: String = ""
+    private var encodedStrictlyPositiveInt: String = ""
+    private var encodedNotBlankString: String = ""
+    private var encodedList: String = ""
+    private var encodedSet: String = ""
+    private var encodedMap: String = ""
+
+    @Setup
+    public fun setUp() {
+        val integer: Integer = Integer.parse("123456789012345678901234567890")
+        this.encodedInteger =
+            this.json.encodeToString(this.integerSerializer, integer)
+        val emailAddress: EmailAddress =
+            checkNotNull(EmailAddress of "contact@kotools.org")
+        this.encodedEmailAddress =
+            this.json.encodeToString(this.emailAddressSerializer, emailAddress)
+        this.encodedStrictlyPositiveInt = this.json.encodeToString(
+            StrictlyPositiveInt.serializer(),
+            StrictlyPositiveInt.max
+        )
+        val text: NotBlankString = "Kotools Types".toNotBlankString()
+            .getOrThrow()
+        this.encodedNotBlankString =
+            this.json.encodeToString(NotBlankString.serializer(), text)
+        val list: NotEmptyList<Int> = List(this.size) { it }
+            .toNotEmptyList()
+            .getOrThrow()
+        this.encodedList = this.json.encodeToString(this.listSerializer, list)
+        val set: NotEmptySet<Int> = List(this.size) { it }
+            .toNotEmptySet()
+            .getOrThrow()
+        this.encodedSet = this.json.encodeToString(this.setSerializer, set)
+        val map: NotEmptyMap<String, Int> = List(this.size) { "$it" to it }
+            .toMap()
+            .toNotEmptyMap()
+            .getOrThrow()
+        this.encodedMap = this.json.encodeToString(this.mapSerializer, map)
+    }
+
+    // ------------------------------ Round-trips ------------------------------
+
+    @Benchmark
+    public fun integerRoundTrip(): String {
+        val decoded: Integer = this.json
+            .decodeFromString(this.integerSerializer, this.encodedInteger)
+        return this.json.encodeToString(this.integerSerializer, decoded)
+    }
+
+    @Benchmark
+    public fun emailAddressRoundTrip(): String {
+        val decoded: EmailAddress = this.json.decodeFromString(
+            this.emailAddressSerializer,
+            this.encodedEmailAddress
+        )
+        return this.json.encodeToString(this.emailAddressSerializer, decoded)
+    }
+
+    @Benchmark
+    public fun strictlyPositiveIntRoundTrip(): String {
+        val serializer: KSerializer<StrictlyPositiveInt> =
+            StrictlyPositiveInt.serializer()
+        val decoded: StrictlyPositiveInt = this.json
+            .decodeFromString(serializer, this.encodedStrictlyPositiveInt)
+        return this.json.encodeToString(serializer, decoded)
+    }
+
+    @Benchmark
+    public fun notBlankStringRoundTrip(): String {
+        val serializer: KSerializer<NotBlankString> =
+            NotBlankString.serializer()
+        val decoded: NotBlankString = this.json
+            .decodeFromString(serializer, this.encodedNotBlankString)
+        return this.json.encodeToString(serializer, decoded)
+    }
+
+    @Benchmark
+    public fun notEmptyListRoundTrip(): String {
+        val decoded: NotEmptyList<Int> =
+            this.json.decodeFromString(this.listSerializer, this.encodedList)
+        return this.json.encodeToString(this.listSerializer, decoded)
+    }
+
+    @Benchmark
+    public fun notEmptySetRoundTrip(): String {
+        val decoded: NotEmptySet<Int> =
+            this.json.decodeFromString(this.setSerializer, this.encodedSet)
+        return this.json.encodeToString(this.setSerializer, decoded)
+    }
+
+    @Benchmark
+    public fun notEmptyMapRoundTrip(): String {
+        val decoded: NotEmptyMap<String, Int> =
+            this.json.decodeFromString(this.mapSerializer, this.encodedMap)
+        return this.json.encodeToString(this.mapSerializer, decoded)
+    }
+
+    // ---------------------------- Deserialization ----------------------------
+
+    // Decoding alone isolates the allocations of the deserializers, which
+    // should stay close to the size of the decoded collection.
+
+    @Benchmark
+    public fun notEmptyListDecoding(): List<Int> = this.json
+        .decodeFromString(this.listSerializer, this.encodedList)
+        .toList()
+
+    @Benchmark
+    public fun notEmptySetDecoding(): Set<Int> = this.json
+        .decodeFromString(this.setSerializer, this.encodedSet)
+        .toSet()
+
+    @Benchmark
+    public fun notEmptyMapDecoding(): Map<String, Int> = this.json
+        .decodeFromString(this.mapSerializer, this.encodedMap)
+        .toMap()
+}
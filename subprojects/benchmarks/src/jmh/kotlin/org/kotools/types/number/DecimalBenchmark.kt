@@ -0,0 +1,65 @@
+package org.kotools.types.number
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+@State(Scope.Benchmark)
+public open class DecimalBenchmark {
+    @Param("19.99", "-0.00000042", "12345678901234567890.123456789")
+    public var text: String = ""
+
+    private lateinit var x: Decimal
+    private lateinit var y: Decimal
+
+    @Setup
+    public fun setUp() {
+        this.x = Decimal.parse(this.text)
+        this.y = Decimal.parse("1.5")
+    }
+
+    // ------------------------------- Creations -------------------------------
+
+    @Benchmark
+    public fun fromLong(): Decimal = Decimal.fromLong(42)
+
+    @Benchmark
+    public fun parse(): Decimal = Decimal.parse(this.text)
+
+    @Benchmark
+    public fun parseOrNull(): Decimal? = Decimal.parseOrNull(this.text)
+
+    // ------------------------------ Comparisons ------------------------------
+
+    @Benchmark
+    public fun equalsOverride(): Boolean = this.x == this.y
+
+    @Benchmark
+    public fun hashCodeOverride(): Int = this.x.hashCode()
+
+    @Benchmark
+    public fun compareTo(): Int = this.x.compareTo(this.y)
+
+    // ------------------------- Arithmetic operations -------------------------
+
+    @Benchmark
+    public fun unaryMinus(): Decimal = -this.x
+
+    @Benchmark
+    public fun plus(): Decimal = this.x + this.y
+
+    @Benchmark
+    public fun minus(): Decimal = this.x - this.y
+
+    @Benchmark
+    public fun times(): Decimal = this.x * this.y
+
+    // ------------------------------ Conversions ------------------------------
+
+    @Benchmark
+    public fun toStringOverride(): String = this.x.toString()
+}
@@ -0,0 +1,76 @@
+package org.kotools.types.number
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+@State(Scope.Benchmark)
+public open class IntegerBenchmark {
+    @Param("42", "-9223372036854775807", "123456789012345678901234567890")
+    public var text: String = ""
+
+    private lateinit var x: Integer
+    private lateinit var y: Integer
+    private lateinit var divisor: NonZeroInteger
+
+    @Setup
+    public fun setUp() {
+        this.x = Integer.parse(this.text)
+        this.y = Integer.parse("-${this.text}")
+        this.divisor = NonZeroInteger.fromLong(7)
+    }
+
+    // ------------------------------- Creations -------------------------------
+
+    @Benchmark
+    public fun fromLong(): Integer = Integer.fromLong(42)
+
+    @Benchmark
+    public fun parse(): Integer = Integer.parse(this.text)
+
+    @Benchmark
+    public fun parseOrNull(): Integer? = Integer.parseOrNull(this.text)
+
+    // ------------------------------ Comparisons ------------------------------
+
+    @Benchmark
+    public fun equalsOverride(): Boolean = this.x == this.y
+
+    @Benchmark
+    public fun hashCodeOverride(): Int = this.x.hashCode()
+
+    @Benchmark
+    public fun compareTo(): Int = this.x.compareTo(this.y)
+
+    // ------------------------- Arithmetic operations -------------------------
+
+    @Benchmark
+    public fun unaryMinus(): Integer = -this.x
+
+    @Benchmark
+    public fun plus(): Integer = this.x + this.y
+
+    @Benchmark
+    public fun minus(): Integer = this.x - this.y
+
+    @Benchmark
+    public fun times(): Integer = this.x * this.y
+
+    @Benchmark
+    public fun div(): Integer = this.x / this.divisor
+
+    @Benchmark
+    public fun rem(): NonNegativeInteger = this.x % this.divisor
+
+    // ------------------------------ Conversions ------------------------------
+
+    @Benchmark
+    public fun toLongOrNull(): Long? = this.x.toLongOrNull()
+
+    @Benchmark
+    public fun toStringOverride(): String = this.x.toString()
+}
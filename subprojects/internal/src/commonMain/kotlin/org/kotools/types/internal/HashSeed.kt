@@ -6,6 +6,9 @@ public enum class HashSeed {
     /** Hash seed for the `Decimal` type. */
     Decimal,
 
+    /** Hash seed for the `DecimalContext` type. */
+    DecimalContext,
+
     /** Hash seed for the `Integer` type. */
     Integer,
 
@@ -16,7 +19,16 @@ public enum class HashSeed {
     NonPositiveInteger,
 
     /** Hash seed for the `NonZeroInteger` type. */
-    NonZeroInteger;
+    NonZeroInteger,
+
+    /** Hash seed for the `NotEmptyDoubleArray` type. */
+    NotEmptyDoubleArray,
+
+    /** Hash seed for the `NotEmptyIntArray` type. */
+    NotEmptyIntArray,
+
+    /** Hash seed for the `NotEmptyLongArray` type. */
+    NotEmptyLongArray;
 
     /** Returns a hash seed for this entry. */
     public fun toInt(): Int = this.name.hashCode()
@@ -35,4 +35,19 @@ public interface PlatformInteger {
 
     /** Returns the remainder of dividing this integer by the [other] one. */
     public operator fun rem(other: PlatformInteger): PlatformInteger
+
+    /**
+     * Returns `true` if this integer is in the range of [Long] (from
+     * [Long.MIN_VALUE] to [Long.MAX_VALUE]), or returns `false` otherwise.
+     */
+    public fun isInLongRange(): Boolean
+
+    /**
+     * Returns the [Long] representation of this integer.
+     *
+     * If this integer is out of range for [Long], only its 64 least
+     * significant bits are kept, like the narrowing conversions of Kotlin.
+     * Use the [isInLongRange] function for checking the range beforehand.
+     */
+    public fun toLong(): Long
 }
@@ -78,9 +78,34 @@ private value class JsInteger(private val delegate: BigInt) : PlatformInteger {
         return JsInteger(remainder)
     }
 
+    override fun isInLongRange(): Boolean {
+        val value: dynamic = this.delegate.asDynamic()
+        return value >= LONG_MIN_VALUE && value <= LONG_MAX_VALUE
+    }
+
+    override fun toLong(): Long {
+        val bigInt: dynamic = BigInt.asDynamic()
+        val value: dynamic = bigInt.asIntN(64, this.delegate)
+        val lowBits: dynamic = bigInt.asUintN(32, value)
+        val highBits: dynamic =
+            bigInt.asIntN(32, (value - lowBits) / TWO_TO_THE_32)
+        val number: dynamic = js("Number")
+        val low: Long = number(lowBits).unsafeCast<Double>()
+            .toLong()
+        val high: Long = number(highBits).unsafeCast<Double>()
+            .toLong()
+        return (high shl 32) or low
+    }
+
     override fun toString(): String = this.delegate.toString()
 }
 
+private val LONG_MIN_VALUE: BigInt = BigInt("${Long.MIN_VALUE}")
+
+private val LONG_MAX_VALUE: BigInt = BigInt("${Long.MAX_VALUE}")
+
+private val TWO_TO_THE_32: BigInt = BigInt("4294967296")
+
 private external object BigInt
 
 private external fun BigInt(value: String): BigInt
@@ -5,55 +5,149 @@ import java.math.BigInteger
 
 /** Returns a [PlatformInteger] representing the specified [value]. */
 @InternalKotoolsTypesApi
-public actual fun PlatformInteger(value: Long): PlatformInteger {
-    val delegate: BigInteger = BigInteger.valueOf(value)
-    return JvmInteger(delegate)
-}
+public actual fun PlatformInteger(value: Long): PlatformInteger =
+    JvmInteger.of(value)
 
 /** Returns a [PlatformInteger] representing the number described by [value]. */
 @InternalKotoolsTypesApi
 public actual fun PlatformInteger(value: String): PlatformInteger {
+    val compact: Long? = value.toLongOrNull()
+    if (compact != null) return JvmInteger.of(compact)
     val delegate = BigInteger(value)
-    return JvmInteger(delegate)
+    return JvmInteger.of(delegate)
 }
 
-@JvmInline
+/**
+ * Represents an integer backed by a [Long] while its value fits in 64 bits,
+ * and by a [BigInteger] only when it doesn't.
+ *
+ * Instances are always in canonical form: [inflated] is `null` if and only if
+ * the value is in the [Long] range.
+ * This keeps [equals] and [hashCode] consistent between both representations.
+ */
 @OptIn(InternalKotoolsTypesApi::class)
-private value class JvmInteger(private val delegate: BigInteger) :
-    PlatformInteger {
-    override fun compareTo(other: PlatformInteger): Int =
-        this.delegate.compareTo((other as JvmInteger).delegate)
+private class JvmInteger private constructor(
+    private val compact: Long,
+    private val inflated: BigInteger?
+) : PlatformInteger {
+    private val isCompact: Boolean get() = this.inflated == null
+
+    private fun toBigInteger(): BigInteger =
+        this.inflated ?: BigInteger.valueOf(this.compact)
+
+    // ------------------------------ Comparisons ------------------------------
+
+    override fun equals(other: Any?): Boolean = other is JvmInteger
+            && this.compact == other.compact
+            && this.inflated == other.inflated
+
+    override fun hashCode(): Int =
+        this.inflated?.hashCode() ?: this.compact.hashCode()
+
+    override fun compareTo(other: PlatformInteger): Int {
+        val that: JvmInteger = other as JvmInteger
+        return if (this.isCompact && that.isCompact)
+            this.compact.compareTo(that.compact)
+        else this.toBigInteger().compareTo(that.toBigInteger())
+    }
+
+    // ------------------------- Arithmetic operations -------------------------
 
     override fun unaryMinus(): PlatformInteger =
-        JvmInteger(this.delegate.negate())
+        if (this.isCompact && this.compact != Long.MIN_VALUE)
+            of(-this.compact)
+        else of(this.toBigInteger().negate())
 
-    override fun plus(other: PlatformInteger): PlatformInteger =
-        JvmInteger(this.delegate + (other as JvmInteger).delegate)
+    override fun plus(other: PlatformInteger): PlatformInteger {
+        val that: JvmInteger = other as JvmInteger
+        if (this.isCompact && that.isCompact) {
+            val x: Long = this.compact
+            val y: Long = that.compact
+            val sum: Long = x + y
+            // Same overflow check as Math.addExact, without throwing.
+            if (((x xor sum) and (y xor sum)) >= 0) return of(sum)
+        }
+        return of(this.toBigInteger() + that.toBigInteger())
+    }
 
-    override fun minus(other: PlatformInteger): PlatformInteger =
-        JvmInteger(this.delegate - (other as JvmInteger).delegate)
+    override fun minus(other: PlatformInteger): PlatformInteger {
+        val that: JvmInteger = other as JvmInteger
+        if (this.isCompact && that.isCompact) {
+            val x: Long = this.compact
+            val y: Long = that.compact
+            val difference: Long = x - y
+            // Same overflow check as Math.subtractExact, without throwing.
+            if (((x xor y) and (x xor difference)) >= 0) return of(difference)
+        }
+        return of(this.toBigInteger() - that.toBigInteger())
+    }
 
-    override fun times(other: PlatformInteger): PlatformInteger =
-        JvmInteger(this.delegate * (other as JvmInteger).delegate)
+    override fun times(other: PlatformInteger): PlatformInteger {
+        val that: JvmInteger = other as JvmInteger
+        if (this.isCompact && that.isCompact) {
+            val x: Long = this.compact
+            val y: Long = that.compact
+            val low: Long = x * y
+            val high: Long = Math.multiplyHigh(x, y)
+            // The product fits in a Long if its high half only extends the
+            // sign of its low half.
+            if (high == low shr 63) return of(low)
+        }
+        return of(this.toBigInteger() * that.toBigInteger())
+    }
 
     override fun div(other: PlatformInteger): PlatformInteger {
-        val dividend: BigInteger = this.delegate
-        val divisor: BigInteger = (other as JvmInteger).delegate
-        val remainder: BigInteger = ((this % other) as JvmInteger).delegate
-
+        val that: JvmInteger = other as JvmInteger
+        if (this.isFastDivisionOperand() && that.isFastDivisionOperand()) {
+            val divisor: Long = that.compact
+            val quotient: Long =
+                Math.floorDiv(this.compact, Math.abs(divisor))
+            return of(if (divisor < 0) -quotient else quotient)
+        }
+        val dividend: BigInteger = this.toBigInteger()
+        val divisor: BigInteger = that.toBigInteger()
+        val remainder: BigInteger = dividend.mod(divisor.abs())
         val quotient: BigInteger = (dividend - remainder) / divisor
-
-        return JvmInteger(quotient)
+        return of(quotient)
     }
 
     override fun rem(other: PlatformInteger): PlatformInteger {
-        val dividend: BigInteger = this.delegate
-        val divisor: BigInteger = (other as JvmInteger).delegate.abs()
-
+        val that: JvmInteger = other as JvmInteger
+        if (this.isFastDivisionOperand() && that.isFastDivisionOperand()) {
+            val divisor: Long = Math.abs(that.compact)
+            return of(Math.floorMod(this.compact, divisor))
+        }
+        val dividend: BigInteger = this.toBigInteger()
+        val divisor: BigInteger = that.toBigInteger().abs()
         val remainder: BigInteger = dividend.mod(divisor)
-
-        return JvmInteger(remainder)
+        return of(remainder)
     }
 
-    override fun toString(): String = this.delegate.toString()
+    /**
+     * Returns `true` if this integer can be used by the [Long]-based Euclidean
+     * division, or returns `false` otherwise.
+     * [Long.MIN_VALUE] is excluded because its absolute value and its negation
+     * don't fit in a [Long].
+     */
+    private fun isFastDivisionOperand(): Boolean =
+        this.isCompact && this.compact != Long.MIN_VALUE
+
+    // ------------------------------ Conversions ------------------------------
+
+    override fun isInLongRange(): Boolean = this.isCompact
+
+    override fun toLong(): Long = this.inflated?.toLong() ?: this.compact
+
+    override fun toString(): String =
+        this.inflated?.toString() ?: this.compact.toString()
+
+    // -------------------------------------------------------------------------
+
+    companion object {
+        fun of(value: Long): JvmInteger = JvmInteger(value, inflated = null)
+
+        fun of(value: BigInteger): JvmInteger =
+            if (value.bitLength() < Long.SIZE_BITS) of(value.toLong())
+            else JvmInteger(compact = 0, value)
+    }
 }
@@ -179,6 +179,27 @@ private class NativeInteger private constructor(
 
     // ------------------------------ Conversions ------------------------------
 
+    override fun isInLongRange(): Boolean {
+        val bitLength: Int = this.magnitude.bitLength()
+        if (bitLength < Long.SIZE_BITS) return true
+        // Long.MIN_VALUE is the only Long with a 64-bit magnitude: 2^63.
+        return this.sign == IntegerSign.Negative
+                && bitLength == Long.SIZE_BITS
+                && this.magnitude[0] == 0u
+                && this.magnitude[1] == Int.MIN_VALUE.toUInt()
+    }
+
+    override fun toLong(): Long {
+        val lowBits: Long =
+            if (this.magnitude.isEmpty()) 0L
+            else this.magnitude[0].toLong()
+        val highBits: Long =
+            if (this.magnitude.size < 2) 0L
+            else this.magnitude[1].toLong()
+        val value: Long = (highBits shl 32) or lowBits
+        return if (this.sign == IntegerSign.Negative) -value else value
+    }
+
     override fun toString(): String {
         if (this.sign == IntegerSign.Zero) return "0"
 
@@ -2,7 +2,11 @@
 
 package org.kotools.types.kotlinx.serialization
 
+import kotlinx.serialization.ExperimentalSerializationApi
 import kotlinx.serialization.KSerializer
+import kotlinx.serialization.builtins.DoubleArraySerializer
+import kotlinx.serialization.builtins.IntArraySerializer
+import kotlinx.serialization.builtins.LongArraySerializer
 import kotlinx.serialization.descriptors.PrimitiveKind
 import kotlinx.serialization.descriptors.PrimitiveSerialDescriptor
 import kotlinx.serialization.descriptors.SerialDescriptor
@@ -13,6 +17,9 @@ import kotlinx.serialization.modules.contextual
 import org.kotools.types.EmailAddress
 import org.kotools.types.EmailAddressRegex
 import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.kotools.types.collection.NotEmptyDoubleArray
+import org.kotools.types.collection.NotEmptyIntArray
+import org.kotools.types.collection.NotEmptyLongArray
 import org.kotools.types.internal.errorMessage
 import org.kotools.types.number.Integer
 import kotlin.jvm.JvmName
@@ -61,6 +68,45 @@ import kotlin.jvm.JvmSynthetic
  * SAMPLE: org.kotools.types.kotlinx.serialization.SerializersModuleSample.integerAsString
  * </details>
  *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>NotEmptyDoubleArray</b>
+ * </summary>
+ *
+ * This function provides an object for serializing and deserializing a
+ * [NotEmptyDoubleArray] as [DoubleArray], and for rejecting empty arrays when
+ * deserializing.
+ *
+ * SAMPLE: org.kotools.types.kotlinx.serialization.SerializersModuleSample.notEmptyDoubleArrayAsArray
+ * </details>
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>NotEmptyIntArray</b>
+ * </summary>
+ *
+ * This function provides an object for serializing and deserializing a
+ * [NotEmptyIntArray] as [IntArray], and for rejecting empty arrays when
+ * deserializing.
+ *
+ * SAMPLE: org.kotools.types.kotlinx.serialization.SerializersModuleSample.notEmptyIntArrayAsArray
+ * </details>
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>NotEmptyLongArray</b>
+ * </summary>
+ *
+ * This function provides an object for serializing and deserializing a
+ * [NotEmptyLongArray] as [LongArray], and for rejecting empty arrays when
+ * deserializing.
+ *
+ * SAMPLE: org.kotools.types.kotlinx.serialization.SerializersModuleSample.notEmptyLongArrayAsArray
+ * </details>
+ *
  * @since 5.0.1
  */
 @ExperimentalKotoolsTypesApi
@@ -71,6 +117,9 @@ public fun KotoolsTypesSerializersModule(): SerializersModule =
         this.contextual(EmailAddressAsStringSerializer())
         this.contextual(EmailAddressRegexAsStringSerializer())
         this.contextual(IntegerAsStringSerializer())
+        this.contextual(NotEmptyDoubleArrayAsArraySerializer())
+        this.contextual(NotEmptyIntArrayAsArraySerializer())
+        this.contextual(NotEmptyLongArrayAsArraySerializer())
     }
 
 @OptIn(ExperimentalKotoolsTypesApi::class)
@@ -128,10 +177,91 @@ private class IntegerAsStringSerializer : KSerializer<Integer> {
     }
 }
 
+@OptIn(ExperimentalKotoolsTypesApi::class)
+private class NotEmptyDoubleArrayAsArraySerializer :
+    NotEmptyArrayAsArraySerializer<NotEmptyDoubleArray, DoubleArray>(
+        SerialName.NotEmptyDoubleArray,
+        DoubleArraySerializer()
+    ) {
+    override fun toArray(value: NotEmptyDoubleArray): DoubleArray =
+        value.toDoubleArray()
+
+    override fun fromArray(elements: DoubleArray): NotEmptyDoubleArray? =
+        if (elements.isEmpty()) null
+        else NotEmptyDoubleArray.fromDoubleArray(elements)
+}
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+private class NotEmptyIntArrayAsArraySerializer :
+    NotEmptyArrayAsArraySerializer<NotEmptyIntArray, IntArray>(
+        SerialName.NotEmptyIntArray,
+        IntArraySerializer()
+    ) {
+    override fun toArray(value: NotEmptyIntArray): IntArray =
+        value.toIntArray()
+
+    override fun fromArray(elements: IntArray): NotEmptyIntArray? =
+        if (elements.isEmpty()) null
+        else NotEmptyIntArray.fromIntArray(elements)
+}
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+private class NotEmptyLongArrayAsArraySerializer :
+    NotEmptyArrayAsArraySerializer<NotEmptyLongArray, LongArray>(
+        SerialName.NotEmptyLongArray,
+        LongArraySerializer()
+    ) {
+    override fun toArray(value: NotEmptyLongArray): LongArray =
+        value.toLongArray()
+
+    override fun fromArray(elements: LongArray): NotEmptyLongArray? =
+        if (elements.isEmpty()) null
+        else NotEmptyLongArray.fromLongArray(elements)
+}
+
+/**
+ * Serializer of a non-empty array of type [T] as a primitive array of type
+ * [A], encoded and decoded by the specified [delegate].
+ *
+ * Its descriptor has the structure of the one of the [delegate], but the
+ * specified [serialName], which prevents a non-empty array from colliding with
+ * a primitive array in polymorphic or contextual lookups.
+ */
+@OptIn(ExperimentalSerializationApi::class)
+private abstract class NotEmptyArrayAsArraySerializer<T : Any, A>(
+    serialName: SerialName,
+    private val delegate: KSerializer<A>
+) : KSerializer<T> {
+    final override val descriptor: SerialDescriptor =
+        SerialDescriptor(serialName.toString(), this.delegate.descriptor)
+
+    /** Returns a copy of the elements of the specified [value]. */
+    protected abstract fun toArray(value: T): A
+
+    /**
+     * Returns a non-empty array containing the specified [elements], or
+     * returns `null` if [elements] is empty.
+     */
+    protected abstract fun fromArray(elements: A): T?
+
+    final override fun serialize(encoder: Encoder, value: T): Unit =
+        encoder.encodeSerializableValue(this.delegate, this.toArray(value))
+
+    final override fun deserialize(decoder: Decoder): T {
+        val elements: A = decoder.decodeSerializableValue(this.delegate)
+        return checkNotNull(this.fromArray(elements)) {
+            errorMessage("Empty array")
+        }
+    }
+}
+
 private enum class SerialName(private val value: String) {
     EmailAddress("org.kotools.types.EmailAddress"),
     EmailAddressRegex("org.kotools.types.EmailAddressRegex"),
-    Integer("org.kotools.types.number.Integer");
+    Integer("org.kotools.types.number.Integer"),
+    NotEmptyDoubleArray("org.kotools.types.collection.NotEmptyDoubleArray"),
+    NotEmptyIntArray("org.kotools.types.collection.NotEmptyIntArray"),
+    NotEmptyLongArray("org.kotools.types.collection.NotEmptyLongArray");
 
     override fun toString(): String = this.value
 }
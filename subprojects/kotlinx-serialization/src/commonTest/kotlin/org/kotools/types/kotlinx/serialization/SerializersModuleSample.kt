@@ -7,6 +7,9 @@ import kotlinx.serialization.json.Json
 import org.kotools.types.EmailAddress
 import org.kotools.types.EmailAddressRegex
 import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.kotools.types.collection.NotEmptyDoubleArray
+import org.kotools.types.collection.NotEmptyIntArray
+import org.kotools.types.collection.NotEmptyLongArray
 import org.kotools.types.number.Integer
 import kotlin.test.Test
 
@@ -78,4 +81,79 @@ class SerializersModuleSample {
         val decoded: Account = format.decodeFromString(encoded)
         check(decoded == account)
     }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun notEmptyDoubleArrayAsArray() {
+        @Serializable
+        data class Series(@Contextual val values: NotEmptyDoubleArray)
+
+        val values: NotEmptyDoubleArray = NotEmptyDoubleArray.of(1.5, 2.5)
+        val series = Series(values)
+
+        val format = Json {
+            this.serializersModule = KotoolsTypesSerializersModule()
+        }
+
+        val encoded: String = format.encodeToString(series)
+        check(encoded == """{"values":[1.5,2.5]}""")
+
+        val decoded: Series = format.decodeFromString(encoded)
+        check(decoded == series)
+
+        val exception: Throwable? = runCatching {
+            format.decodeFromString<Series>("""{"values":[]}""")
+        }.exceptionOrNull()
+        check(exception is IllegalStateException)
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun notEmptyIntArrayAsArray() {
+        @Serializable
+        data class Series(@Contextual val values: NotEmptyIntArray)
+
+        val values: NotEmptyIntArray = NotEmptyIntArray.of(1, 2)
+        val series = Series(values)
+
+        val format = Json {
+            this.serializersModule = KotoolsTypesSerializersModule()
+        }
+
+        val encoded: String = format.encodeToString(series)
+        check(encoded == """{"values":[1,2]}""")
+
+        val decoded: Series = format.decodeFromString(encoded)
+        check(decoded == series)
+
+        val exception: Throwable? = runCatching {
+            format.decodeFromString<Series>("""{"values":[]}""")
+        }.exceptionOrNull()
+        check(exception is IllegalStateException)
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun notEmptyLongArrayAsArray() {
+        @Serializable
+        data class Series(@Contextual val values: NotEmptyLongArray)
+
+        val values: NotEmptyLongArray = NotEmptyLongArray.of(1L, 2L)
+        val series = Series(values)
+
+        val format = Json {
+            this.serializersModule = KotoolsTypesSerializersModule()
+        }
+
+        val encoded: String = format.encodeToString(series)
+        check(encoded == """{"values":[1,2]}""")
+
+        val decoded: Series = format.decodeFromString(encoded)
+        check(decoded == series)
+
+        val exception: Throwable? = runCatching {
+            format.decodeFromString<Series>("""{"values":[]}""")
+        }.exceptionOrNull()
+        check(exception is IllegalStateException)
+    }
 }
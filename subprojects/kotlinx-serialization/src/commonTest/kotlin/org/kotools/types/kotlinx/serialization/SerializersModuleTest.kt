@@ -1,6 +1,10 @@
 package org.kotools.types.kotlinx.serialization
 
+import kotlinx.serialization.ExperimentalSerializationApi
 import kotlinx.serialization.KSerializer
+import kotlinx.serialization.builtins.DoubleArraySerializer
+import kotlinx.serialization.builtins.IntArraySerializer
+import kotlinx.serialization.builtins.LongArraySerializer
 import kotlinx.serialization.descriptors.PrimitiveKind
 import kotlinx.serialization.descriptors.PrimitiveSerialDescriptor
 import kotlinx.serialization.descriptors.SerialDescriptor
@@ -11,6 +15,9 @@ import kotlinx.serialization.serializer
 import org.kotools.types.EmailAddress
 import org.kotools.types.EmailAddressRegex
 import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.kotools.types.collection.NotEmptyDoubleArray
+import org.kotools.types.collection.NotEmptyIntArray
+import org.kotools.types.collection.NotEmptyLongArray
 import org.kotools.types.number.Integer
 import kotlin.test.Test
 import kotlin.test.assertEquals
@@ -190,3 +197,180 @@ class IntegerAsStringSerializerTest {
         assertEquals(expected, actual.message)
     }
 }
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+class NotEmptyDoubleArrayAsArraySerializerTest {
+    @OptIn(ExperimentalSerializationApi::class)
+    @Test
+    fun descriptor() {
+        val module: SerializersModule = KotoolsTypesSerializersModule()
+        val serializer: KSerializer<NotEmptyDoubleArray> = module.serializer()
+
+        val actual: SerialDescriptor = serializer.descriptor
+
+        val expected: SerialDescriptor = DoubleArraySerializer().descriptor
+        assertEquals(
+            expected = "org.kotools.types.collection.NotEmptyDoubleArray",
+            actual.serialName
+        )
+        assertEquals(expected.kind, actual.kind)
+        assertEquals(
+            expected.getElementDescriptor(0),
+            actual.getElementDescriptor(0)
+        )
+    }
+
+    @Test
+    fun serialize() {
+        val format =
+            Json { this.serializersModule = KotoolsTypesSerializersModule() }
+        val array: NotEmptyDoubleArray = NotEmptyDoubleArray.of(1.5, 2.5)
+
+        val actual: String = format.encodeToString(array)
+
+        assertEquals(expected = "[1.5,2.5]", actual)
+    }
+
+    @Test
+    fun deserializeWithNonEmptyArray() {
+        val format =
+            Json { this.serializersModule = KotoolsTypesSerializersModule() }
+        val encoded = "[1.5,2.5]"
+
+        val actual: NotEmptyDoubleArray = format.decodeFromString(encoded)
+
+        val expected: NotEmptyDoubleArray = NotEmptyDoubleArray.of(1.5, 2.5)
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun deserializeWithEmptyArray() {
+        val format =
+            Json { this.serializersModule = KotoolsTypesSerializersModule() }
+        val encoded = "[]"
+
+        val actual: IllegalStateException = assertFailsWith {
+            format.decodeFromString<NotEmptyDoubleArray>(encoded)
+        }
+
+        assertEquals(expected = "Empty array", actual.message)
+    }
+}
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+class NotEmptyIntArrayAsArraySerializerTest {
+    @OptIn(ExperimentalSerializationApi::class)
+    @Test
+    fun descriptor() {
+        val module: SerializersModule = KotoolsTypesSerializersModule()
+        val serializer: KSerializer<NotEmptyIntArray> = module.serializer()
+
+        val actual: SerialDescriptor = serializer.descriptor
+
+        val expected: SerialDescriptor = IntArraySerializer().descriptor
+        assertEquals(
+            expected = "org.kotools.types.collection.NotEmptyIntArray",
+            actual.serialName
+        )
+        assertEquals(expected.kind, actual.kind)
+        assertEquals(
+            expected.getElementDescriptor(0),
+            actual.getElementDescriptor(0)
+        )
+    }
+
+    @Test
+    fun serialize() {
+        val format =
+            Json { this.serializersModule = KotoolsTypesSerializersModule() }
+        val array: NotEmptyIntArray = NotEmptyIntArray.of(1, 2)
+
+        val actual: String = format.encodeToString(array)
+
+        assertEquals(expected = "[1,2]", actual)
+    }
+
+    @Test
+    fun deserializeWithNonEmptyArray() {
+        val format =
+            Json { this.serializersModule = KotoolsTypesSerializersModule() }
+        val encoded = "[1,2]"
+
+        val actual: NotEmptyIntArray = format.decodeFromString(encoded)
+
+        val expected: NotEmptyIntArray = NotEmptyIntArray.of(1, 2)
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun deserializeWithEmptyArray() {
+        val format =
+            Json { this.serializersModule = KotoolsTypesSerializersModule() }
+        val encoded = "[]"
+
+        val actual: IllegalStateException = assertFailsWith {
+            format.decodeFromString<NotEmptyIntArray>(encoded)
+        }
+
+        assertEquals(expected = "Empty array", actual.message)
+    }
+}
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+class NotEmptyLongArrayAsArraySerializerTest {
+    @OptIn(ExperimentalSerializationApi::class)
+    @Test
+    fun descriptor() {
+        val module: SerializersModule = KotoolsTypesSerializersModule()
+        val serializer: KSerializer<NotEmptyLongArray> = module.serializer()
+
+        val actual: SerialDescriptor = serializer.descriptor
+
+        val expected: SerialDescriptor = LongArraySerializer().descriptor
+        assertEquals(
+            expected = "org.kotools.types.collection.NotEmptyLongArray",
+            actual.serialName
+        )
+        assertEquals(expected.kind, actual.kind)
+        assertEquals(
+            expected.getElementDescriptor(0),
+            actual.getElementDescriptor(0)
+        )
+    }
+
+    @Test
+    fun serialize() {
+        val format =
+            Json { this.serializersModule = KotoolsTypesSerializersModule() }
+        val array: NotEmptyLongArray = NotEmptyLongArray.of(1L, 2L)
+
+        val actual: String = format.encodeToString(array)
+
+        assertEquals(expected = "[1,2]", actual)
+    }
+
+    @Test
+    fun deserializeWithNonEmptyArray() {
+        val format =
+            Json { this.serializersModule = KotoolsTypesSerializersModule() }
+        val encoded = "[1,2]"
+
+        val actual: NotEmptyLongArray = format.decodeFromString(encoded)
+
+        val expected: NotEmptyLongArray = NotEmptyLongArray.of(1L, 2L)
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun deserializeWithEmptyArray() {
+        val format =
+            Json { this.serializersModule = KotoolsTypesSerializersModule() }
+        val encoded = "[]"
+
+        val actual: IllegalStateException = assertFailsWith {
+            format.decodeFromString<NotEmptyLongArray>(encoded)
+        }
+
+        assertEquals(expected = "Empty array", actual.message)
+    }
+}
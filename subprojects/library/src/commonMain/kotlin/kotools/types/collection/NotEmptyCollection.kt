@@ -44,7 +44,12 @@ public sealed interface NotEmptyCollection<out E> {
      */
     public val tail: NotEmptyCollection<E>? get() = null
 
-    /** The size of this collection. */
+    /**
+     * The size of this collection.
+     *
+     * Implementations of this property should return the size in constant
+     * time, without traversing the [tail] of this collection.
+     */
     public val size: StrictlyPositiveInt
         get() = tail.sizeOrZero.plus(1)
             .toStrictlyPositiveInt()
@@ -8,6 +8,8 @@ import kotlinx.serialization.encoding.Decoder
 import kotlinx.serialization.encoding.Encoder
 import kotools.types.internal.ErrorMessage
 import kotools.types.internal.serializationError
+import kotools.types.number.StrictlyPositiveInt
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
 import kotlin.jvm.JvmInline
 import kotlin.jvm.JvmSynthetic
@@ -36,7 +38,9 @@ import kotlin.jvm.JvmSynthetic
  */
 @OptIn(InternalKotoolsTypesApi::class)
 public fun <E> notEmptyListOf(head: E, vararg tail: E): NotEmptyList<E> {
-    val elements: List<E> = listOf(head) + tail
+    val elements: MutableList<E> = ArrayList(tail.size + 1)
+    elements.add(head)
+    elements.addAll(tail)
     return NotEmptyList.orThrow(elements)
 }
 
@@ -75,6 +79,80 @@ public fun <E> Collection<E>.toNotEmptyList(): Result<NotEmptyList<E>> =
         NotEmptyList.orThrow(elements)
     }
 
+/**
+ * Returns a [NotEmptyList] containing all the elements of this list, followed
+ * by the specified [element].
+ *
+ * This list is left unchanged, and the returned list shares its structure with
+ * it instead of copying its elements. Appending or prepending elements to a
+ * list returned by this function runs in logarithmic time, which keeps
+ * accumulating elements one by one from becoming quadratic. Only the first call
+ * on another list copies its elements once.
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Calling from Kotlin</b>
+ * </summary>
+ *
+ * Here's an example of calling this function from Kotlin code:
+ *
+ * SAMPLE: kotools.types.collection.NotEmptyListKtCommonSample.append
+ * </details>
+ * <br>
+ *
+ * The [NotEmptyList] type being an
+ * [inline value class](https://kotlinlang.org/docs/inline-classes.html), it is
+ * not recommended to call this function from Java code.
+ *
+ * See the [prepend] function for adding an element at the start of this list.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun <E> NotEmptyList<E>.append(element: E): NotEmptyList<E> {
+    val elements: PersistentList<E> = PersistentList.of(toList())
+    return NotEmptyList.orThrow(elements.append(element))
+}
+
+/**
+ * Returns a [NotEmptyList] starting with the specified [element], followed by
+ * all the elements of this list.
+ *
+ * This list is left unchanged, and the returned list shares its structure with
+ * it instead of copying its elements. Appending or prepending elements to a
+ * list returned by this function runs in logarithmic time, which keeps
+ * accumulating elements one by one from becoming quadratic. Only the first call
+ * on another list copies its elements once.
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Calling from Kotlin</b>
+ * </summary>
+ *
+ * Here's an example of calling this function from Kotlin code:
+ *
+ * SAMPLE: kotools.types.collection.NotEmptyListKtCommonSample.prepend
+ * </details>
+ * <br>
+ *
+ * The [NotEmptyList] type being an
+ * [inline value class](https://kotlinlang.org/docs/inline-classes.html), it is
+ * not recommended to call this function from Java code.
+ *
+ * See the [append] function for adding an element at the end of this list.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun <E> NotEmptyList<E>.prepend(element: E): NotEmptyList<E> {
+    val elements: PersistentList<E> = PersistentList.of(toList())
+    return NotEmptyList.orThrow(elements.prepend(element))
+}
+
 /**
  * Represents a list that has at least one element of type [E].
  *
@@ -107,9 +185,11 @@ public value class NotEmptyList<out E> private constructor(
     override val head: E get() = elements.first()
 
     override val tail: NotEmptyList<E>?
-        get() = elements.drop(1)
-            .toNotEmptyList()
-            .getOrNull()
+        get() = if (elements.size == 1) null
+        else NotEmptyList(ListTail.of(elements))
+
+    override val size: StrictlyPositiveInt
+        get() = StrictlyPositiveInt.orThrow(elements.size)
 
     /**
      * Returns all elements of this list as a [List] of type [E].
@@ -131,6 +211,12 @@ public value class NotEmptyList<out E> private constructor(
 
     /** Contains static declarations for the [NotEmptyList] type. */
     public companion object {
+        /**
+         * Returns a [NotEmptyList] wrapping the specified [elements] without
+         * copying them, or throws an [IllegalArgumentException] if they are
+         * empty. The caller transfers the ownership of [elements], and
+         * shouldn't keep any mutable reference to them.
+         */
         @InternalKotoolsTypesApi
         @JvmSynthetic
         internal fun <E> orThrow(elements: List<E>): NotEmptyList<E> {
@@ -141,6 +227,163 @@ public value class NotEmptyList<out E> private constructor(
     }
 }
 
+/**
+ * Read-only view of the elements of a [source] list starting at the specified
+ * [offset], used as the [tail][NotEmptyList.tail] of a [NotEmptyList] without
+ * copying its elements.
+ *
+ * Taking the tail of a view creates another view over the same [source] with
+ * an incremented [offset], instead of nesting views. This keeps indexed access
+ * in constant time, and walking a [NotEmptyList] by head and tail in linear
+ * time.
+ */
+private class ListTail<out E> private constructor(
+    private val source: List<E>,
+    private val offset: Int
+) : AbstractList<E>(), RandomAccess {
+    override val size: Int get() = source.size - offset
+
+    override fun get(index: Int): E {
+        if (index < 0 || index >= size) throw IndexOutOfBoundsException(
+            "index: $index, size: $size"
+        )
+        return source[offset + index]
+    }
+
+    companion object {
+        /** Returns all elements of the [list] except the first one. */
+        fun <E> of(list: List<E>): List<E> =
+            if (list is ListTail<E>) ListTail(list.source, list.offset + 1)
+            else ListTail(list, offset = 1)
+    }
+}
+
+/**
+ * Immutable list that appends and prepends elements in logarithmic time, by
+ * sharing its structure with the list it was created from.
+ *
+ * Prepended elements are stored in reverse order in [front], and the other ones
+ * are stored in order in [back]. Both sides only grow by appending to them.
+ */
+private class PersistentList<out E> private constructor(
+    private val front: AppendOnlyTrie<E>,
+    private val back: AppendOnlyTrie<E>
+) : AbstractList<E>(), RandomAccess {
+    override val size: Int get() = front.size + back.size
+
+    override fun get(index: Int): E {
+        if (index < 0 || index >= size) throw IndexOutOfBoundsException(
+            "index: $index, size: $size"
+        )
+        val frontSize: Int = front.size
+        return if (index < frontSize) front[frontSize - 1 - index]
+        else back[index - frontSize]
+    }
+
+    fun append(element: @UnsafeVariance E): PersistentList<E> =
+        PersistentList(front, back.append(element))
+
+    fun prepend(element: @UnsafeVariance E): PersistentList<E> =
+        PersistentList(front.append(element), back)
+
+    companion object {
+        /**
+         * Returns the specified [list] if it's already persistent, or returns
+         * a persistent copy of its elements otherwise.
+         */
+        fun <E> of(list: List<E>): PersistentList<E> {
+            if (list is PersistentList<E>) return list
+            var back: AppendOnlyTrie<E> = AppendOnlyTrie.empty()
+            for (element: E in list) back = back.append(element)
+            return PersistentList(AppendOnlyTrie.empty(), back)
+        }
+    }
+}
+
+/**
+ * Immutable 32-way trie of elements, reading an element by index or appending
+ * one in logarithmic time.
+ *
+ * Like the persistent vector from Clojure, the last leaf is kept apart as the
+ * [tail], so most appends only copy this small array. Other appends only copy
+ * the path from the [root] to the new leaf, and share the rest of the trie.
+ */
+private class AppendOnlyTrie<out E> private constructor(
+    val size: Int,
+    private val shift: Int,
+    private val root: Array<Any?>,
+    private val tail: Array<Any?>
+) {
+    private val tailOffset: Int
+        get() = if (size < WIDTH) 0 else ((size - 1) ushr BITS) shl BITS
+
+    operator fun get(index: Int): E {
+        var node: Array<Any?> = tail
+        if (index < tailOffset) {
+            node = root
+            var level: Int = shift
+            while (level > 0) {
+                node = node[(index ushr level) and MASK].asNode()
+                level -= BITS
+            }
+        }
+        @Suppress("UNCHECKED_CAST")
+        val element: E = node[index and MASK] as E
+        return element
+    }
+
+    fun append(element: @UnsafeVariance E): AppendOnlyTrie<E> {
+        if (size - tailOffset < WIDTH) {
+            val newTail: Array<Any?> = tail.copyOf(tail.size + 1)
+            newTail[tail.size] = element
+            return AppendOnlyTrie(size + 1, shift, root, newTail)
+        }
+        val newLeaf: Array<Any?> = arrayOf(element)
+        // The root is full when the leaves already reach its capacity.
+        if ((size ushr BITS) > (1 shl shift)) {
+            val newRoot: Array<Any?> = arrayOf(root, newPath(shift, tail))
+            return AppendOnlyTrie(size + 1, shift + BITS, newRoot, newLeaf)
+        }
+        val newRoot: Array<Any?> = pushTail(shift, root)
+        return AppendOnlyTrie(size + 1, shift, newRoot, newLeaf)
+    }
+
+    /** Returns a copy of the [parent] node containing the current [tail]. */
+    private fun pushTail(level: Int, parent: Array<Any?>): Array<Any?> {
+        val index: Int = ((size - 1) ushr level) and MASK
+        val node: Array<Any?> = parent.copyOf(maxOf(parent.size, index + 1))
+        node[index] = when {
+            level == BITS -> tail
+            index < parent.size ->
+                pushTail(level - BITS, parent[index].asNode())
+            else -> newPath(level - BITS, tail)
+        }
+        return node
+    }
+
+    companion object {
+        private const val BITS: Int = 5
+        private const val WIDTH: Int = 1 shl BITS
+        private const val MASK: Int = WIDTH - 1
+
+        private val emptyTrie: AppendOnlyTrie<Nothing> = AppendOnlyTrie(
+            size = 0,
+            shift = BITS,
+            root = emptyArray(),
+            tail = emptyArray()
+        )
+
+        fun <E> empty(): AppendOnlyTrie<E> = emptyTrie
+
+        /** Returns the path of nodes from the specified [level] to [leaf]. */
+        private fun newPath(level: Int, leaf: Array<Any?>): Array<Any?> =
+            if (level == 0) leaf else arrayOf(newPath(level - BITS, leaf))
+
+        @Suppress("UNCHECKED_CAST")
+        private fun Any?.asNode(): Array<Any?> = this as Array<Any?>
+    }
+}
+
 @InternalKotoolsTypesApi
 internal class NotEmptyListSerializer<E>(elementSerializer: KSerializer<E>) :
     KSerializer<NotEmptyList<E>> {
@@ -155,9 +398,10 @@ internal class NotEmptyListSerializer<E>(elementSerializer: KSerializer<E>) :
         encoder.encodeSerializableValue(delegate, elements)
     }
 
-    override fun deserialize(decoder: Decoder): NotEmptyList<E> = decoder
-        .decodeSerializableValue(delegate)
-        .toNotEmptyList()
-        .getOrNull()
-        ?: serializationError(ErrorMessage.emptyCollection)
+    override fun deserialize(decoder: Decoder): NotEmptyList<E> {
+        // The decoded list isn't shared, so it's wrapped without copying it.
+        val elements: List<E> = decoder.decodeSerializableValue(delegate)
+        if (elements.isEmpty()) serializationError(ErrorMessage.emptyCollection)
+        return NotEmptyList.orThrow(elements)
+    }
 }
@@ -9,7 +9,6 @@ import kotlinx.serialization.encoding.Encoder
 import kotools.types.internal.ErrorMessage
 import kotools.types.internal.serializationError
 import kotools.types.number.StrictlyPositiveInt
-import kotools.types.number.toStrictlyPositiveInt
 import org.kotools.types.internal.InternalKotoolsTypesApi
 import kotlin.jvm.JvmInline
 import kotlin.jvm.JvmSynthetic
@@ -31,14 +30,16 @@ import kotlin.jvm.JvmSynthetic
  *
  * @since 4.0.0
  */
+@OptIn(InternalKotoolsTypesApi::class)
 public fun <K, V> notEmptyMapOf(
     head: Pair<K, V>,
     vararg tail: Pair<K, V>
-): NotEmptyMap<K, V> = listOf(head)
-    .plus(tail)
-    .toMap()
-    .toNotEmptyMap()
-    .getOrThrow()
+): NotEmptyMap<K, V> {
+    val map: MutableMap<K, V> = LinkedHashMap(tail.size + 1)
+    map += head
+    map.putAll(tail)
+    return NotEmptyMap.fromOwnedMap(map)
+}
 
 /**
  * Returns an encapsulated [NotEmptyMap] containing all the entries of this map,
@@ -110,6 +111,20 @@ public value class NotEmptyMap<K, out V> private constructor(
             require(isValid, ErrorMessage.Companion::emptyMap)
             return NotEmptyMap(map)
         }
+
+        /**
+         * Returns a [NotEmptyMap] wrapping the specified [map] without copying
+         * it, or throws an [IllegalArgumentException] if it's empty. The
+         * caller transfers the ownership of [map], and shouldn't keep any
+         * mutable reference to it.
+         */
+        @InternalKotoolsTypesApi
+        @JvmSynthetic
+        internal fun <K, V> fromOwnedMap(map: Map<K, V>): NotEmptyMap<K, V> {
+            val isValid: Boolean = map.isNotEmpty()
+            require(isValid, ErrorMessage.Companion::emptyMap)
+            return NotEmptyMap(map)
+        }
     }
 
     /**
@@ -145,12 +160,8 @@ public value class NotEmptyMap<K, out V> private constructor(
      * </details>
      */
     public val tail: NotEmptyMap<K, V>?
-        get() {
-            val tail: List<Map.Entry<K, V>> = delegate.entries.drop(1)
-            if (tail.isEmpty()) return null
-            val entries: Set<Map.Entry<K, V>> = tail.toSet()
-            return orThrow(entries)
-        }
+        get() = if (delegate.size == 1) null
+        else NotEmptyMap(MapTail.of(delegate))
 
     /**
      * All entries of this map.
@@ -167,8 +178,7 @@ public value class NotEmptyMap<K, out V> private constructor(
      * </details>
      */
     public val entries: NotEmptySet<Map.Entry<K, V>>
-        get() = delegate.entries.toNotEmptySet()
-            .getOrThrow()
+        get() = NotEmptySet.orThrow(delegate.entries)
 
     /**
      * All keys of this map.
@@ -185,8 +195,7 @@ public value class NotEmptyMap<K, out V> private constructor(
      * </details>
      */
     public val keys: NotEmptySet<K>
-        get() = delegate.keys.toNotEmptySet()
-            .getOrThrow()
+        get() = NotEmptySet.orThrow(delegate.keys)
 
     /**
      * All values of this map.
@@ -203,8 +212,7 @@ public value class NotEmptyMap<K, out V> private constructor(
      * </details>
      */
     public val values: NotEmptyList<V>
-        get() = delegate.values.toNotEmptyList()
-            .getOrThrow()
+        get() = NotEmptyList.orThrow(MapValues(delegate))
 
     /**
      * The size of this map.
@@ -221,8 +229,7 @@ public value class NotEmptyMap<K, out V> private constructor(
      * </details>
      */
     public val size: StrictlyPositiveInt
-        get() = delegate.size.toStrictlyPositiveInt()
-            .getOrThrow()
+        get() = StrictlyPositiveInt.orThrow(delegate.size)
 
     /**
      * Returns all entries of this map as a [Map] with keys of type [K] and
@@ -260,6 +267,87 @@ public value class NotEmptyMap<K, out V> private constructor(
     override fun toString(): String = "$delegate"
 }
 
+/**
+ * Read-only view of the entries of a map except the first [offset] ones, used
+ * as the [tail][NotEmptyMap.tail] of a [NotEmptyMap] without copying or
+ * rehashing its entries.
+ *
+ * The entries of the original map are listed once in [entryList], and the
+ * [positions] of their keys in this list are indexed on the first lookup. Both
+ * are shared by the tails of this view: taking the tail of a view only
+ * increments its [offset]. This keeps walking a [NotEmptyMap] by head and tail
+ * in linear time, and lookups on any of its tails in constant time.
+ */
+private class MapTail<K, out V> private constructor(
+    private val entryList: List<Map.Entry<K, V>>,
+    private val positions: Lazy<Map<K, Int>>,
+    private val offset: Int
+) : AbstractMap<K, V>() {
+    override val size: Int get() = entryList.size - offset
+
+    override val entries: Set<Map.Entry<K, V>> =
+        object : AbstractSet<Map.Entry<K, V>>() {
+            override val size: Int get() = this@MapTail.size
+
+            override fun iterator(): Iterator<Map.Entry<K, V>> =
+                entryList.subList(offset, entryList.size)
+                    .iterator()
+        }
+
+    override fun containsKey(key: K): Boolean = positionOf(key) != null
+
+    override fun get(key: K): V? {
+        val position: Int = positionOf(key) ?: return null
+        return entryList[position].value
+    }
+
+    /**
+     * Returns the position of the [key] in the [entryList], or returns `null`
+     * if this view doesn't contain the [key].
+     */
+    private fun positionOf(key: K): Int? {
+        val position: Int = positions.value[key] ?: return null
+        return if (position < offset) null else position
+    }
+
+    companion object {
+        /** Returns all entries of the [map] except the first one. */
+        fun <K, V> of(map: Map<K, V>): Map<K, V> {
+            if (map is MapTail<K, V>)
+                return MapTail(map.entryList, map.positions, map.offset + 1)
+            val entryList: List<Map.Entry<K, V>> = map.entries.toList()
+            val positions: Lazy<Map<K, Int>> = lazy {
+                entryList.withIndex()
+                    .associate { it.value.key to it.index }
+            }
+            return MapTail(entryList, positions, offset = 1)
+        }
+    }
+}
+
+/**
+ * Read-only list view of the values of a [map], used as the
+ * [values][NotEmptyMap.values] of a [NotEmptyMap] without copying them.
+ *
+ * The size, iteration and lookups of this view delegate to the [map]. Since
+ * the values of a map can't be accessed by index, they are listed once, on
+ * the first indexed access after the first element, and shared by the tails
+ * of the resulting [NotEmptyList].
+ */
+private class MapValues<out V>(private val map: Map<*, V>) : AbstractList<V>() {
+    private val valueList: List<V> by lazy { map.values.toList() }
+
+    override val size: Int get() = map.size
+
+    override fun get(index: Int): V =
+        if (index == 0) map.values.first() else valueList[index]
+
+    override fun iterator(): Iterator<V> = map.values.iterator()
+
+    override fun contains(element: @UnsafeVariance V): Boolean =
+        map.containsValue(element)
+}
+
 @InternalKotoolsTypesApi
 internal class NotEmptyMapSerializer<K, V>(
     keySerializer: KSerializer<K>,
@@ -276,8 +364,10 @@ internal class NotEmptyMapSerializer<K, V>(
         encoder.encodeSerializableValue(delegate, map)
     }
 
-    override fun deserialize(decoder: Decoder): NotEmptyMap<K, V> = decoder
-        .decodeSerializableValue(delegate)
-        .toNotEmptyMap()
-        .getOrElse { serializationError(ErrorMessage.emptyMap) }
+    override fun deserialize(decoder: Decoder): NotEmptyMap<K, V> {
+        // The decoded map isn't shared, so it's wrapped without copying it.
+        val map: Map<K, V> = decoder.decodeSerializableValue(delegate)
+        if (map.isEmpty()) serializationError(ErrorMessage.emptyMap)
+        return NotEmptyMap.fromOwnedMap(map)
+    }
 }
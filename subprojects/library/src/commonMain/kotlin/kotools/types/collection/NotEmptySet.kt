@@ -8,6 +8,7 @@ import kotlinx.serialization.encoding.Decoder
 import kotlinx.serialization.encoding.Encoder
 import kotools.types.internal.ErrorMessage
 import kotools.types.internal.serializationError
+import kotools.types.number.StrictlyPositiveInt
 import org.kotools.types.internal.InternalKotoolsTypesApi
 import kotlin.jvm.JvmInline
 import kotlin.jvm.JvmSynthetic
@@ -31,7 +32,9 @@ import kotlin.jvm.JvmSynthetic
  */
 @OptIn(InternalKotoolsTypesApi::class)
 public fun <E> notEmptySetOf(head: E, vararg tail: E): NotEmptySet<E> {
-    val elements: Set<E> = setOf(head) + tail
+    val elements: MutableSet<E> = LinkedHashSet(tail.size + 1)
+    elements.add(head)
+    elements.addAll(tail)
     return NotEmptySet.orThrow(elements)
 }
 
@@ -97,6 +100,12 @@ public value class NotEmptySet<out E> private constructor(
 ) : NotEmptyCollection<E> {
     /** Contains static declarations for the [NotEmptySet] type. */
     public companion object {
+        /**
+         * Returns a [NotEmptySet] wrapping the specified [elements] without
+         * copying them, or throws an [IllegalArgumentException] if they are
+         * empty. The caller transfers the ownership of [elements], and
+         * shouldn't keep any mutable reference to them.
+         */
         @InternalKotoolsTypesApi
         @JvmSynthetic
         internal fun <E> orThrow(elements: Set<E>): NotEmptySet<E> {
@@ -109,9 +118,11 @@ public value class NotEmptySet<out E> private constructor(
     override val head: E get() = elements.first()
 
     override val tail: NotEmptySet<E>?
-        get() = elements.drop(1)
-            .toNotEmptySet()
-            .getOrNull()
+        get() = if (elements.size == 1) null
+        else NotEmptySet(SetTail.of(elements))
+
+    override val size: StrictlyPositiveInt
+        get() = StrictlyPositiveInt.orThrow(elements.size)
 
     /**
      * Returns all elements of this set as a [Set] of type [E].
@@ -132,6 +143,48 @@ public value class NotEmptySet<out E> private constructor(
     override fun toString(): String = "$elements"
 }
 
+/**
+ * Read-only view of the elements of a set except the first [offset] ones, used
+ * as the [tail][NotEmptySet.tail] of a [NotEmptySet] without copying or
+ * rehashing its elements.
+ *
+ * The elements of the original set are listed once in [elementList], and their
+ * [positions] in this list are indexed on the first membership test. Both are
+ * shared by the tails of this view: taking the tail of a view only increments
+ * its [offset]. This keeps walking a [NotEmptySet] by head and tail in linear
+ * time, and membership tests on any of its tails in constant time.
+ */
+private class SetTail<E> private constructor(
+    private val elementList: List<E>,
+    private val positions: Lazy<Map<E, Int>>,
+    private val offset: Int
+) : AbstractSet<E>() {
+    override val size: Int get() = elementList.size - offset
+
+    override fun contains(element: E): Boolean {
+        val position: Int = positions.value[element] ?: return false
+        return position >= offset
+    }
+
+    override fun iterator(): Iterator<E> =
+        elementList.subList(offset, elementList.size)
+            .iterator()
+
+    companion object {
+        /** Returns all elements of the [set] except the first one. */
+        fun <E> of(set: Set<E>): Set<E> {
+            if (set is SetTail<E>)
+                return SetTail(set.elementList, set.positions, set.offset + 1)
+            val elementList: List<E> = set.toList()
+            val positions: Lazy<Map<E, Int>> = lazy {
+                elementList.withIndex()
+                    .associate { it.value to it.index }
+            }
+            return SetTail(elementList, positions, offset = 1)
+        }
+    }
+}
+
 @InternalKotoolsTypesApi
 internal class NotEmptySetSerializer<E>(elementSerializer: KSerializer<E>) :
     KSerializer<NotEmptySet<E>> {
@@ -146,8 +199,10 @@ internal class NotEmptySetSerializer<E>(elementSerializer: KSerializer<E>) :
         encoder.encodeSerializableValue(delegate, elements)
     }
 
-    override fun deserialize(decoder: Decoder): NotEmptySet<E> = decoder
-        .decodeSerializableValue(delegate)
-        .toNotEmptySet()
-        .getOrElse { serializationError(ErrorMessage.emptyCollection) }
+    override fun deserialize(decoder: Decoder): NotEmptySet<E> {
+        // The decoded set isn't shared, so it's wrapped without copying it.
+        val elements: Set<E> = decoder.decodeSerializableValue(delegate)
+        if (elements.isEmpty()) serializationError(ErrorMessage.emptyCollection)
+        return NotEmptySet.orThrow(elements)
+    }
 }
@@ -10,6 +10,7 @@ import kotlinx.serialization.encoding.Decoder
 import kotools.types.internal.intSerializer
 import kotools.types.internal.simpleNameOf
 import kotools.types.internal.unexpectedCreationError
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
 
 /**
@@ -75,7 +76,8 @@ public operator fun AnyInt.plus(other: Int): Int = toInt() + other
  *
  * @since 4.1.0
  */
-public operator fun AnyInt.plus(other: AnyInt): Int = toInt() + other
+public operator fun AnyInt.plus(other: AnyInt): Int =
+    toInt() + other.toInt()
 
 /**
  * Subtracts the [other] integer from this one.
@@ -96,7 +98,8 @@ public operator fun AnyInt.minus(other: Int): Int = toInt() - other
  *
  * @since 4.1.0
  */
-public operator fun AnyInt.minus(other: AnyInt): Int = toInt() - other
+public operator fun AnyInt.minus(other: AnyInt): Int =
+    toInt() - other.toInt()
 
 /**
  * Multiplies this integer by the [other] one.
@@ -117,7 +120,8 @@ public operator fun AnyInt.times(other: Int): Int = toInt() * other
  *
  * @since 4.1.0
  */
-public operator fun AnyInt.times(other: AnyInt): Int = toInt() * other
+public operator fun AnyInt.times(other: AnyInt): Int =
+    toInt() * other.toInt()
 
 /**
  * Divides this integer by the [other] one, truncating the result to an integer
@@ -148,12 +152,13 @@ private object AnyIntDeserializationStrategy : DeserializationStrategy<AnyInt> {
         PrimitiveSerialDescriptor(serialName, PrimitiveKind.INT)
     }
 
+    @OptIn(ExperimentalKotoolsTypesApi::class)
     override fun deserialize(decoder: Decoder): AnyInt {
         val value: Int = decoder.decodeInt()
         if (value == 0) return ZeroInt
-        val result: Result<AnyInt> =
-            if (value > 0) value.toStrictlyPositiveInt()
-            else value.toStrictlyNegativeInt()
-        return result.getOrNull() ?: unexpectedCreationError<AnyInt>(value)
+        val result: AnyInt? =
+            if (value > 0) value.toStrictlyPositiveIntOrNull()
+            else value.toStrictlyNegativeIntOrNull()
+        return result ?: unexpectedCreationError<AnyInt>(value)
     }
 }
@@ -12,6 +12,7 @@ import kotools.types.internal.intSerializer
 import kotools.types.internal.serializationError
 import kotools.types.internal.shouldBeNegative
 import kotools.types.internal.simpleNameOf
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
 
 /**
@@ -35,6 +36,28 @@ public fun Number.toNegativeInt(): Result<NegativeInt> {
     }
 }
 
+/**
+ * Returns this number as a [NegativeInt], which may involve rounding or
+ * truncation, or returns `null` if this number is
+ * [strictly positive][StrictlyPositiveInt].
+ *
+ * Unlike the [toNegativeInt] function, this function doesn't create any
+ * exception for rejecting a number, which makes it cheaper when invalid
+ * numbers are frequent.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun Number.toNegativeIntOrNull(): NegativeInt? {
+    val value: Int = toInt()
+    return when {
+        value == 0 -> ZeroInt
+        value.isStrictlyNegative() -> StrictlyNegativeInt.orThrow(value)
+        else -> null
+    }
+}
+
 /**
  * Represents an integer number of type [Int] that is less than or equals zero.
  *
@@ -136,10 +159,10 @@ private object NegativeIntDeserializationStrategy :
         PrimitiveSerialDescriptor(serialName, PrimitiveKind.INT)
     }
 
+    @OptIn(ExperimentalKotoolsTypesApi::class)
     override fun deserialize(decoder: Decoder): NegativeInt {
         val value: Int = decoder.decodeInt()
-        return value.toNegativeInt()
-            .getOrNull()
+        return value.toNegativeIntOrNull()
             ?: serializationError(value.shouldBeNegative())
     }
 }
@@ -13,6 +13,7 @@ import kotools.types.internal.ErrorMessage
 import kotools.types.internal.intSerializer
 import kotools.types.internal.serializationError
 import kotools.types.internal.simpleNameOf
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
 
 /**
@@ -36,6 +37,27 @@ public fun Number.toNonZeroInt(): Result<NonZeroInt> {
     }
 }
 
+/**
+ * Returns this number as a [NonZeroInt], which may involve rounding or
+ * truncation, or returns `null` if this number is equal to [zero][ZeroInt].
+ *
+ * Unlike the [toNonZeroInt] function, this function doesn't create any
+ * exception for rejecting a number, which makes it cheaper when invalid
+ * numbers are frequent.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun Number.toNonZeroIntOrNull(): NonZeroInt? {
+    val value: Int = toInt()
+    return when {
+        value.isStrictlyPositive() -> StrictlyPositiveInt.orThrow(value)
+        value.isStrictlyNegative() -> StrictlyNegativeInt.orThrow(value)
+        else -> null
+    }
+}
+
 /**
  * Represents an integer number of type [Int] that is other than zero.
  *
@@ -126,10 +148,10 @@ private object NonZeroIntDeserializationStrategy :
         PrimitiveSerialDescriptor(serialName, PrimitiveKind.INT)
     }
 
+    @OptIn(ExperimentalKotoolsTypesApi::class)
     override fun deserialize(decoder: Decoder): NonZeroInt {
         val value: Int = decoder.decodeInt()
-        return value.toNonZeroInt()
-            .getOrNull()
+        return value.toNonZeroIntOrNull()
             ?: serializationError(ErrorMessage.zeroNumber)
     }
 }
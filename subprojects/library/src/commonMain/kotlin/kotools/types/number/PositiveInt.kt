@@ -12,6 +12,7 @@ import kotools.types.internal.intSerializer
 import kotools.types.internal.serializationError
 import kotools.types.internal.shouldBePositive
 import kotools.types.internal.simpleNameOf
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
 
 /**
@@ -35,6 +36,28 @@ public fun Number.toPositiveInt(): Result<PositiveInt> {
     }
 }
 
+/**
+ * Returns this number as a [PositiveInt], which may involve rounding or
+ * truncation, or returns `null` if this number is
+ * [strictly negative][StrictlyNegativeInt].
+ *
+ * Unlike the [toPositiveInt] function, this function doesn't create any
+ * exception for rejecting a number, which makes it cheaper when invalid
+ * numbers are frequent.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun Number.toPositiveIntOrNull(): PositiveInt? {
+    val value: Int = toInt()
+    return when {
+        value == 0 -> ZeroInt
+        value.isStrictlyPositive() -> StrictlyPositiveInt.orThrow(value)
+        else -> null
+    }
+}
+
 /**
  * Represents an integer number of type [Int] that is greater than or equals
  * zero.
@@ -137,12 +160,10 @@ private object PositiveIntDeserializationStrategy :
         PrimitiveSerialDescriptor(serialName, PrimitiveKind.INT)
     }
 
-    @OptIn(InternalKotoolsTypesApi::class)
+    @OptIn(ExperimentalKotoolsTypesApi::class, InternalKotoolsTypesApi::class)
     override fun deserialize(decoder: Decoder): PositiveInt {
         val value: Int = decoder.decodeInt()
-        return value.toPositiveInt().getOrElse {
-            val message: ErrorMessage = value.shouldBePositive()
-            serializationError(message)
-        }
+        return value.toPositiveIntOrNull()
+            ?: serializationError(value.shouldBePositive())
     }
 }
@@ -12,7 +12,9 @@ import kotools.types.internal.intSerializer
 import kotools.types.internal.serializationError
 import kotools.types.internal.shouldBeStrictlyNegative
 import kotools.types.internal.simpleNameOf
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
+import org.kotools.types.internal.errorMessage
 import kotlin.jvm.JvmInline
 import kotlin.jvm.JvmSynthetic
 
@@ -27,11 +29,127 @@ internal fun Int.isStrictlyNegative(): Boolean = this < 0
  *
  * @since 4.1.0
  */
-public fun Number.toStrictlyNegativeInt(): Result<StrictlyNegativeInt> =
-    runCatching {
-        val number: Int = this.toInt()
-        StrictlyNegativeInt.orThrow(number)
+@OptIn(InternalKotoolsTypesApi::class)
+public fun Number.toStrictlyNegativeInt(): Result<StrictlyNegativeInt> {
+    val number: Int = this.toInt()
+    if (number.isStrictlyNegative()) {
+        val value: StrictlyNegativeInt = StrictlyNegativeInt.orThrow(number)
+        return Result.success(value)
+    }
+    val message: ErrorMessage = number.shouldBeStrictlyNegative()
+    val exception = IllegalArgumentException("$message")
+    return Result.failure(exception)
+}
+
+/**
+ * Returns this number as a [StrictlyNegativeInt], which may involve rounding or
+ * truncation, or returns `null` if this number is [positive][PositiveInt].
+ *
+ * Unlike the [toStrictlyNegativeInt] function, this function doesn't create any
+ * exception for rejecting a number, which makes it cheaper when invalid
+ * numbers are frequent.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun Number.toStrictlyNegativeIntOrNull(): StrictlyNegativeInt? {
+    val number: Int = this.toInt()
+    return if (number.isStrictlyNegative()) StrictlyNegativeInt.orThrow(number)
+    else null
+}
+
+/**
+ * Adds the [other] integer to this one, or throws an [ArithmeticException] if
+ * the result overflows the [Int] type.
+ *
+ * Unlike the [plus] operator, this function doesn't wrap around on overflow,
+ * and returns a [StrictlyNegativeInt] because the sum of two strictly negative
+ * integers is strictly negative.
+ *
+ * See the [plusSaturating] function for returning the minimum value of
+ * [StrictlyNegativeInt] instead of throwing an exception on overflow.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun StrictlyNegativeInt.plusExact(
+    other: StrictlyNegativeInt
+): StrictlyNegativeInt {
+    val result: Long = this.toInt().toLong() + other.toInt()
+    if (result < Int.MIN_VALUE) {
+        val message: String = errorMessage("Int overflow", result)
+        throw ArithmeticException(message)
+    }
+    return StrictlyNegativeInt.orThrow(result.toInt())
+}
+
+/**
+ * Adds the [other] integer to this one, or returns the minimum value of
+ * [StrictlyNegativeInt] if the result overflows the [Int] type.
+ *
+ * Unlike the [plus] operator, this function doesn't wrap around on overflow,
+ * and returns a [StrictlyNegativeInt] because the sum of two strictly negative
+ * integers is strictly negative.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun StrictlyNegativeInt.plusSaturating(
+    other: StrictlyNegativeInt
+): StrictlyNegativeInt {
+    val result: Long = this.toInt().toLong() + other.toInt()
+    val clamped: Long = maxOf(result, Int.MIN_VALUE.toLong())
+    return StrictlyNegativeInt.orThrow(clamped.toInt())
+}
+
+/**
+ * Multiplies this integer by the [other] one, or throws an
+ * [ArithmeticException] if the result overflows the [Int] type.
+ *
+ * Unlike the [times] operator, this function doesn't wrap around on overflow,
+ * and returns a [StrictlyPositiveInt] because the product of two strictly
+ * negative integers is strictly positive.
+ *
+ * See the [timesSaturating] function for returning the maximum value of
+ * [StrictlyPositiveInt] instead of throwing an exception on overflow.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun StrictlyNegativeInt.timesExact(
+    other: StrictlyNegativeInt
+): StrictlyPositiveInt {
+    val result: Long = this.toInt().toLong() * other.toInt()
+    if (result > Int.MAX_VALUE) {
+        val message: String = errorMessage("Int overflow", result)
+        throw ArithmeticException(message)
     }
+    return StrictlyPositiveInt.orThrow(result.toInt())
+}
+
+/**
+ * Multiplies this integer by the [other] one, or returns the maximum value of
+ * [StrictlyPositiveInt] if the result overflows the [Int] type.
+ *
+ * Unlike the [times] operator, this function doesn't wrap around on overflow,
+ * and returns a [StrictlyPositiveInt] because the product of two strictly
+ * negative integers is strictly positive.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun StrictlyNegativeInt.timesSaturating(
+    other: StrictlyNegativeInt
+): StrictlyPositiveInt {
+    val result: Long = this.toInt().toLong() * other.toInt()
+    val clamped: Long = minOf(result, Int.MAX_VALUE.toLong())
+    return StrictlyPositiveInt.orThrow(clamped.toInt())
+}
 
 /**
  * Represents an integer number of type [Int] that is less than zero.
@@ -111,11 +229,10 @@ private object StrictlyNegativeIntDeserializationStrategy :
         PrimitiveSerialDescriptor(serialName, PrimitiveKind.INT)
     }
 
+    @OptIn(ExperimentalKotoolsTypesApi::class)
     override fun deserialize(decoder: Decoder): StrictlyNegativeInt {
         val value: Int = decoder.decodeInt()
-        return value.toStrictlyNegativeInt().getOrElse {
-            val message: ErrorMessage = value.shouldBeStrictlyNegative()
-            serializationError(message)
-        }
+        return value.toStrictlyNegativeIntOrNull()
+            ?: serializationError(value.shouldBeStrictlyNegative())
     }
 }
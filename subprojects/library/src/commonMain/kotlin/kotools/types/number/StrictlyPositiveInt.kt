@@ -12,7 +12,9 @@ import kotools.types.internal.intSerializer
 import kotools.types.internal.serializationError
 import kotools.types.internal.shouldBeStrictlyPositive
 import kotools.types.internal.simpleNameOf
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
+import org.kotools.types.internal.errorMessage
 import kotlin.jvm.JvmInline
 import kotlin.jvm.JvmSynthetic
 
@@ -27,11 +29,127 @@ internal fun Int.isStrictlyPositive(): Boolean = this > 0
  *
  * @since 4.1.0
  */
-public fun Number.toStrictlyPositiveInt(): Result<StrictlyPositiveInt> =
-    runCatching {
-        val number: Int = this.toInt()
-        StrictlyPositiveInt.orThrow(number)
+@OptIn(InternalKotoolsTypesApi::class)
+public fun Number.toStrictlyPositiveInt(): Result<StrictlyPositiveInt> {
+    val number: Int = this.toInt()
+    if (number.isStrictlyPositive()) {
+        val value: StrictlyPositiveInt = StrictlyPositiveInt.orThrow(number)
+        return Result.success(value)
+    }
+    val message: ErrorMessage = number.shouldBeStrictlyPositive()
+    val exception = IllegalArgumentException("$message")
+    return Result.failure(exception)
+}
+
+/**
+ * Returns this number as a [StrictlyPositiveInt], which may involve rounding or
+ * truncation, or returns `null` if this number is [negative][NegativeInt].
+ *
+ * Unlike the [toStrictlyPositiveInt] function, this function doesn't create any
+ * exception for rejecting a number, which makes it cheaper when invalid
+ * numbers are frequent.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun Number.toStrictlyPositiveIntOrNull(): StrictlyPositiveInt? {
+    val number: Int = this.toInt()
+    return if (number.isStrictlyPositive()) StrictlyPositiveInt.orThrow(number)
+    else null
+}
+
+/**
+ * Adds the [other] integer to this one, or throws an [ArithmeticException] if
+ * the result overflows the [Int] type.
+ *
+ * Unlike the [plus] operator, this function doesn't wrap around on overflow,
+ * and returns a [StrictlyPositiveInt] because the sum of two strictly positive
+ * integers is strictly positive.
+ *
+ * See the [plusSaturating] function for returning the maximum value of
+ * [StrictlyPositiveInt] instead of throwing an exception on overflow.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun StrictlyPositiveInt.plusExact(
+    other: StrictlyPositiveInt
+): StrictlyPositiveInt {
+    val result: Long = this.toInt().toLong() + other.toInt()
+    if (result > Int.MAX_VALUE) {
+        val message: String = errorMessage("Int overflow", result)
+        throw ArithmeticException(message)
+    }
+    return StrictlyPositiveInt.orThrow(result.toInt())
+}
+
+/**
+ * Adds the [other] integer to this one, or returns the maximum value of
+ * [StrictlyPositiveInt] if the result overflows the [Int] type.
+ *
+ * Unlike the [plus] operator, this function doesn't wrap around on overflow,
+ * and returns a [StrictlyPositiveInt] because the sum of two strictly positive
+ * integers is strictly positive.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun StrictlyPositiveInt.plusSaturating(
+    other: StrictlyPositiveInt
+): StrictlyPositiveInt {
+    val result: Long = this.toInt().toLong() + other.toInt()
+    val clamped: Long = minOf(result, Int.MAX_VALUE.toLong())
+    return StrictlyPositiveInt.orThrow(clamped.toInt())
+}
+
+/**
+ * Multiplies this integer by the [other] one, or throws an
+ * [ArithmeticException] if the result overflows the [Int] type.
+ *
+ * Unlike the [times] operator, this function doesn't wrap around on overflow,
+ * and returns a [StrictlyPositiveInt] because the product of two strictly
+ * positive integers is strictly positive.
+ *
+ * See the [timesSaturating] function for returning the maximum value of
+ * [StrictlyPositiveInt] instead of throwing an exception on overflow.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun StrictlyPositiveInt.timesExact(
+    other: StrictlyPositiveInt
+): StrictlyPositiveInt {
+    val result: Long = this.toInt().toLong() * other.toInt()
+    if (result > Int.MAX_VALUE) {
+        val message: String = errorMessage("Int overflow", result)
+        throw ArithmeticException(message)
     }
+    return StrictlyPositiveInt.orThrow(result.toInt())
+}
+
+/**
+ * Multiplies this integer by the [other] one, or returns the maximum value of
+ * [StrictlyPositiveInt] if the result overflows the [Int] type.
+ *
+ * Unlike the [times] operator, this function doesn't wrap around on overflow,
+ * and returns a [StrictlyPositiveInt] because the product of two strictly
+ * positive integers is strictly positive.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public fun StrictlyPositiveInt.timesSaturating(
+    other: StrictlyPositiveInt
+): StrictlyPositiveInt {
+    val result: Long = this.toInt().toLong() * other.toInt()
+    val clamped: Long = minOf(result, Int.MAX_VALUE.toLong())
+    return StrictlyPositiveInt.orThrow(clamped.toInt())
+}
 
 /**
  * Represents an integer number of type [Int] that is greater than zero.
@@ -111,11 +229,10 @@ private object StrictlyPositiveIntDeserializationStrategy :
         PrimitiveSerialDescriptor(serialName, PrimitiveKind.INT)
     }
 
+    @OptIn(ExperimentalKotoolsTypesApi::class)
     override fun deserialize(decoder: Decoder): StrictlyPositiveInt {
         val value: Int = decoder.decodeInt()
-        return value.toStrictlyPositiveInt().getOrElse {
-            val message: ErrorMessage = value.shouldBeStrictlyPositive()
-            serializationError(message)
-        }
+        return value.toStrictlyPositiveIntOrNull()
+            ?: serializationError(value.shouldBeStrictlyPositive())
     }
 }
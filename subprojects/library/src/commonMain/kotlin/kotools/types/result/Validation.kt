@@ -0,0 +1,354 @@
+package kotools.types.result
+
+import kotools.types.collection.NotEmptyList
+import kotools.types.collection.NotEmptyMap
+import kotools.types.collection.NotEmptySet
+import kotools.types.internal.ErrorMessage
+import kotools.types.internal.hashCodeOf
+import kotools.types.internal.shouldBeNegative
+import kotools.types.internal.shouldBePositive
+import kotools.types.internal.shouldBeStrictlyNegative
+import kotools.types.internal.shouldBeStrictlyPositive
+import kotools.types.number.NegativeInt
+import kotools.types.number.NonZeroInt
+import kotools.types.number.PositiveInt
+import kotools.types.number.StrictlyNegativeInt
+import kotools.types.number.StrictlyPositiveInt
+import kotools.types.number.ZeroInt
+import kotools.types.number.toNegativeIntOrNull
+import kotools.types.number.toNonZeroIntOrNull
+import kotools.types.number.toPositiveIntOrNull
+import kotools.types.number.toStrictlyNegativeIntOrNull
+import kotools.types.number.toStrictlyPositiveIntOrNull
+import kotools.types.text.NotBlankString
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.kotools.types.internal.InternalKotoolsTypesApi
+
+/**
+ * Context available when calling the [validationOf] or the [validationOfAll]
+ * functions.
+ *
+ * Unlike the ones of [ResultContext], the conversions of this context don't
+ * throw any exception for rejecting a value. They return `null` instead, and
+ * keep the reason of their failure for building the resulting [Validation].
+ * When called from the [validationOf] function, only the first failure is
+ * kept and the conversions following it return `null` without validating
+ * their value. When called from the [validationOfAll] function, every
+ * conversion validates its value and every failure is kept.
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Calling from Kotlin</b>
+ * </summary>
+ *
+ * Here's an example of calling this type from Kotlin code:
+ *
+ * SAMPLE: kotools.types.result.ValidationCommonSample.validationContext
+ * </details>
+ * <br>
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public class ValidationContext internal constructor(
+    private val accumulatesErrors: Boolean
+) {
+    private var errors: MutableList<String>? = null
+
+    /**
+     * Returns this number as a [NonZeroInt], which may involve rounding or
+     * truncation, or returns `null` if this number equals [zero][ZeroInt].
+     */
+    public fun Number.toNonZeroInt(): NonZeroInt? =
+        validate({ toNonZeroIntOrNull() }) { ErrorMessage.zeroNumber }
+
+    /**
+     * Returns this number as a [PositiveInt], which may involve rounding or
+     * truncation, or returns `null` if this number is
+     * [strictly negative][StrictlyNegativeInt].
+     */
+    public fun Number.toPositiveInt(): PositiveInt? =
+        validate({ toPositiveIntOrNull() }) { toInt().shouldBePositive() }
+
+    /**
+     * Returns this number as a [NegativeInt], which may involve rounding or
+     * truncation, or returns `null` if this number is
+     * [strictly positive][StrictlyPositiveInt].
+     */
+    public fun Number.toNegativeInt(): NegativeInt? =
+        validate({ toNegativeIntOrNull() }) { toInt().shouldBeNegative() }
+
+    /**
+     * Returns this number as a [StrictlyPositiveInt], which may involve
+     * rounding or truncation, or returns `null` if this number is
+     * [negative][NegativeInt].
+     */
+    public fun Number.toStrictlyPositiveInt(): StrictlyPositiveInt? =
+        validate({ toStrictlyPositiveIntOrNull() }) {
+            toInt().shouldBeStrictlyPositive()
+        }
+
+    /**
+     * Returns this number as a [StrictlyNegativeInt], which may involve
+     * rounding or truncation, or returns `null` if this number is
+     * [positive][PositiveInt].
+     */
+    public fun Number.toStrictlyNegativeInt(): StrictlyNegativeInt? =
+        validate({ toStrictlyNegativeIntOrNull() }) {
+            toInt().shouldBeStrictlyNegative()
+        }
+
+    /**
+     * Returns this string as a [NotBlankString], or returns `null` if this
+     * string is [blank][String.isBlank].
+     */
+    public fun String.toNotBlankString(): NotBlankString? =
+        validate({ NotBlankString of this }) { ErrorMessage.blankString }
+
+    /**
+     * Returns a [NotEmptyList] containing all the elements of this collection,
+     * or returns `null` if this collection is [empty][Collection.isEmpty].
+     */
+    public fun <E> Collection<E>.toNotEmptyList(): NotEmptyList<E>? = validate(
+        { if (isEmpty()) null else NotEmptyList.orThrow(toList()) },
+        ErrorMessage.Companion::emptyCollection
+    )
+
+    /**
+     * Returns a [NotEmptySet] containing all the elements of this collection,
+     * or returns `null` if this collection is [empty][Collection.isEmpty].
+     */
+    public fun <E> Collection<E>.toNotEmptySet(): NotEmptySet<E>? = validate(
+        { if (isEmpty()) null else NotEmptySet.orThrow(toSet()) },
+        ErrorMessage.Companion::emptyCollection
+    )
+
+    /**
+     * Returns a [NotEmptyMap] containing all the entries of this map, or
+     * returns `null` if this map is [empty][Map.isEmpty].
+     */
+    public fun <K, V> Map<K, V>.toNotEmptyMap(): NotEmptyMap<K, V>? = validate(
+        { if (isEmpty()) null else NotEmptyMap.orThrow(entries) },
+        ErrorMessage.Companion::emptyMap
+    )
+
+    /**
+     * Rejects the value being validated with the specified [message], and
+     * returns `null`.
+     *
+     * Use this function for validating rules that the conversions of this
+     * context don't cover.
+     *
+     * <br>
+     * <details>
+     * <summary>
+     *     <b>Calling from Kotlin</b>
+     * </summary>
+     *
+     * Here's an example of calling this function from Kotlin code:
+     *
+     * SAMPLE: kotools.types.result.ValidationCommonSample.reject
+     * </details>
+     */
+    public fun reject(message: String): Nothing? {
+        val errors: MutableList<String> = this.errors
+            ?: ArrayList<String>(1).also { this.errors = it }
+        if (this.accumulatesErrors || errors.isEmpty()) errors += message
+        return null
+    }
+
+    private inline fun <T : Any> validate(
+        conversion: () -> T?,
+        message: () -> ErrorMessage
+    ): T? {
+        if (!this.accumulatesErrors && this.errors != null) return null
+        return conversion() ?: reject("${message()}")
+    }
+
+    /**
+     * Returns the validation of the specified [value], or throws an
+     * [IllegalStateException] if this [value] is `null` without any value
+     * rejected in this context.
+     */
+    internal fun <T : Any> toValidation(value: T?): Validation<T> {
+        val errors: List<String>? = this.errors
+        if (errors == null) {
+            checkNotNull(value) { "Value shouldn't be null without errors." }
+            return Validation.Valid(value)
+        }
+        val messages: NotEmptyList<String> =
+            NotEmptyList.orThrow(errors.toList())
+        return Validation.Invalid(messages)
+    }
+}
+
+/**
+ * Returns the validation of the value returned by calling the [block] function
+ * in the [ValidationContext].
+ *
+ * The validation is [invalid][Validation.Invalid] as soon as one of the
+ * conversions of the [ValidationContext] fails, and is
+ * [valid][Validation.Valid] otherwise. Rejecting a value doesn't create any
+ * exception, which makes this function cheaper than the [resultOf] one when
+ * invalid values are frequent. Returning `null` from the [block] function
+ * short-circuits the rest of the validation.
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Calling from Kotlin</b>
+ * </summary>
+ *
+ * Here's an example of calling this function from Kotlin code:
+ *
+ * SAMPLE: kotools.types.result.ValidationCommonSample.validationOf
+ * </details>
+ * <br>
+ *
+ * This function throws an [IllegalStateException] if the [block] function
+ * returns `null` without any value rejected in the [ValidationContext].
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+public fun <T : Any> validationOf(
+    block: ValidationContext.() -> T?
+): Validation<T> {
+    val context = ValidationContext(accumulatesErrors = false)
+    val value: T? = context.block()
+    return context.toValidation(value)
+}
+
+/**
+ * Returns the validation of the value returned by calling the [block] function
+ * in the [ValidationContext], keeping all the failures of its conversions.
+ *
+ * Unlike the [validationOf] function, every conversion of the
+ * [ValidationContext] validates its value even after a failure. The resulting
+ * [invalid][Validation.Invalid] validation contains the messages of all the
+ * rejected values, in the order of their conversions. This is useful for
+ * reporting all the invalid fields of an object at once.
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Calling from Kotlin</b>
+ * </summary>
+ *
+ * Here's an example of calling this function from Kotlin code:
+ *
+ * SAMPLE: kotools.types.result.ValidationCommonSample.validationOfAll
+ * </details>
+ * <br>
+ *
+ * This function throws an [IllegalStateException] if the [block] function
+ * returns `null` without any value rejected in the [ValidationContext].
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+public fun <T : Any> validationOfAll(
+    block: ValidationContext.() -> T?
+): Validation<T> {
+    val context = ValidationContext(accumulatesErrors = true)
+    val value: T? = context.block()
+    return context.toValidation(value)
+}
+
+/**
+ * Represents the validation of a value of type [T], returned by the
+ * [validationOf] and the [validationOfAll] functions.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+@OptIn(InternalKotoolsTypesApi::class)
+public sealed interface Validation<out T : Any> {
+    /**
+     * Returns the validated value if this validation is [valid][Valid], or
+     * returns `null` otherwise.
+     */
+    public fun getOrNull(): T?
+
+    /**
+     * Represents a validation that succeeded with the specified [value].
+     *
+     * <br>
+     * <details>
+     * <summary>
+     *     <b>Calling from Kotlin</b>
+     * </summary>
+     *
+     * Here's an example of calling this type from Kotlin code:
+     *
+     * SAMPLE: kotools.types.result.ValidationCommonSample.valid
+     * </details>
+     * <br>
+     *
+     * @since 5.3.0
+     */
+    public class Valid<out T : Any> internal constructor(
+        /** The validated value. */
+        public val value: T
+    ) : Validation<T> {
+        /**
+         * Returns `true` if the [other] object is a [Valid] validation with
+         * the same [value] as this one, or returns `false` otherwise.
+         */
+        override fun equals(other: Any?): Boolean =
+            other is Valid<*> && this.value == other.value
+
+        /** Returns a hash code value for this validation. */
+        override fun hashCode(): Int = hashCodeOf(this.value)
+
+        override fun getOrNull(): T = this.value
+
+        /** Returns the string representation of this validation. */
+        override fun toString(): String = "Valid(${this.value})"
+    }
+
+    /**
+     * Represents a validation that failed with the specified [errors].
+     *
+     * <br>
+     * <details>
+     * <summary>
+     *     <b>Calling from Kotlin</b>
+     * </summary>
+     *
+     * Here's an example of calling this type from Kotlin code:
+     *
+     * SAMPLE: kotools.types.result.ValidationCommonSample.invalid
+     * </details>
+     * <br>
+     *
+     * @since 5.3.0
+     */
+    public class Invalid internal constructor(
+        /**
+         * The messages explaining the failures of this validation, in the
+         * order they occurred.
+         */
+        public val errors: NotEmptyList<String>
+    ) : Validation<Nothing> {
+        /** The message explaining the first failure of this validation. */
+        public val message: String get() = this.errors.head
+
+        /**
+         * Returns `true` if the [other] object is an [Invalid] validation with
+         * the same [errors] as this one, or returns `false` otherwise.
+         */
+        override fun equals(other: Any?): Boolean =
+            other is Invalid && this.errors == other.errors
+
+        /** Returns a hash code value for this validation. */
+        override fun hashCode(): Int = hashCodeOf(this.errors)
+
+        override fun getOrNull(): Nothing? = null
+
+        /** Returns the string representation of this validation. */
+        override fun toString(): String = "Invalid(${this.errors})"
+    }
+}
@@ -147,6 +147,10 @@ public class EmailAddress private constructor(private val text: String) {
          * Returns an email address with the specified [text], or returns `null`
          * if the [text] doesn't match the specified [regex].
          *
+         * The [regex] compiles its pattern once and can be shared between
+         * threads, so validating many texts only requires calling this
+         * function for each of them, sequentially or in parallel.
+         *
          * <br>
          * <details>
          * <summary>
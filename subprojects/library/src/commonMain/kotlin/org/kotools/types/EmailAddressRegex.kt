@@ -19,6 +19,18 @@ import kotlin.jvm.JvmStatic
 public class EmailAddressRegex private constructor(
     private val pattern: String
 ) {
+    /**
+     * The compiled form of this regular expression, built on the first call
+     * to [matches] and reused by the next ones.
+     */
+    private val regex: Regex by lazy { Regex(this.pattern) }
+
+    /**
+     * Whether this regular expression has the default pattern, which is
+     * checked without the regex engine by [matchesDefaultPattern].
+     */
+    private val isDefault: Boolean = this.pattern == DEFAULT_PATTERN
+
     // -------------------- Structural equality operations ---------------------
 
     /**
@@ -110,7 +122,8 @@ public class EmailAddressRegex private constructor(
      * </details>
      */
     public infix fun matches(text: CharSequence): Boolean =
-        Regex(this.pattern) matches text
+        if (this.isDefault) matchesDefaultPattern(text)
+        else this.regex matches text
 
     // ------------------------------ Conversions ------------------------------
 
@@ -146,6 +159,29 @@ public class EmailAddressRegex private constructor(
 
     /** Contains static declarations for the [EmailAddressRegex] type. */
     public companion object {
+        private const val DEFAULT_PATTERN: String = """^\S+@\S+\.\S+$"""
+        private const val CACHE_SIZE: Int = 64
+
+        /**
+         * Direct-mapped cache of the regular expressions accepted by [of],
+         * indexed by the hash code of their pattern. A slot holds the last
+         * accepted regular expression with this index, so its compiled form
+         * is reused by the next calls with the same pattern.
+         *
+         * Slots are read and written without locking: a race can only evict
+         * an entry or miss it, and instances are immutable.
+         */
+        private val cache: Array<EmailAddressRegex?> = arrayOfNulls(CACHE_SIZE)
+
+        private val defaultRegex: EmailAddressRegex =
+            EmailAddressRegex(DEFAULT_PATTERN)
+
+        private val alphabeticRegex: EmailAddressRegex =
+            this.fromPattern("""^[a-z]+@[a-z]+\.[a-z]+$""")
+
+        private val alphanumericRegex: EmailAddressRegex =
+            this.fromPattern("""^[0-9a-z]+@[0-9a-z]+\.[0-9a-z]+$""")
+
         /**
          * Returns the default regular expression for validating
          * [email addresses][EmailAddress], corresponding to the following
@@ -198,8 +234,7 @@ public class EmailAddressRegex private constructor(
          */
         @JvmName("defaultPattern")
         @JvmStatic
-        public fun default(): EmailAddressRegex =
-            EmailAddressRegex("""^\S+@\S+\.\S+$""")
+        public fun default(): EmailAddressRegex = this.defaultRegex
 
         /**
          * Returns a regular expression for validating
@@ -207,6 +242,9 @@ public class EmailAddressRegex private constructor(
          * returns `null` if the [pattern] doesn't match the
          * [default one][EmailAddressRegex.Companion.default].
          *
+         * This function may return the same instance for the same [pattern],
+         * so its compiled form is shared between these calls.
+         *
          * <br>
          * <details>
          * <summary>
@@ -233,12 +271,13 @@ public class EmailAddressRegex private constructor(
          */
         @JvmStatic
         public infix fun of(pattern: String): EmailAddressRegex? {
-            val isValidPattern: Boolean = this.default()
-                .toString()
-                .toRegex()
-                .matches(pattern)
-            return if (isValidPattern) EmailAddressRegex(pattern)
-            else null
+            val index: Int = pattern.hashCode() and (CACHE_SIZE - 1)
+            val cached: EmailAddressRegex? = this.cache[index]
+            if (cached != null && cached.pattern == pattern) return cached
+            if (!matchesDefaultPattern(pattern)) return null
+            val regex = EmailAddressRegex(pattern)
+            this.cache[index] = regex
+            return regex
         }
 
         /**
@@ -289,8 +328,7 @@ public class EmailAddressRegex private constructor(
          * </details>
          */
         @JvmStatic
-        public fun alphabetic(): EmailAddressRegex =
-            this.fromPattern("""^[a-z]+@[a-z]+\.[a-z]+$""")
+        public fun alphabetic(): EmailAddressRegex = this.alphabeticRegex
 
         /**
          * Returns a regular expression for validating
@@ -343,12 +381,43 @@ public class EmailAddressRegex private constructor(
          * </details>
          */
         @JvmStatic
-        public fun alphanumeric(): EmailAddressRegex =
-            this.fromPattern("""^[0-9a-z]+@[0-9a-z]+\.[0-9a-z]+$""")
+        public fun alphanumeric(): EmailAddressRegex = this.alphanumericRegex
 
         private fun fromPattern(pattern: String): EmailAddressRegex =
             checkNotNull(EmailAddressRegex of pattern) {
                 errorMessage("Invalid email address regex", pattern)
             }
+
+        /**
+         * Returns `true` if the specified [text] matches the default pattern
+         * (`^\S+@\S+\.\S+$`), or returns `false` otherwise.
+         *
+         * The [text] matches if it has no whitespace, and if it has an `@`
+         * after its first character followed, at least two characters later,
+         * by a `.` that isn't its last character. Picking the first `@` that
+         * isn't the first character leaves the most room for the `.`, so a
+         * single linear scan is enough, without backtracking.
+         *
+         * Whitespace characters are the ones recognized by [Char.isWhitespace],
+         * including Unicode ones like the no-break space, so this function
+         * behaves the same on every platform. The regex engine of Kotlin/JS
+         * matches Unicode whitespace with `\s`, while the one of the JVM only
+         * matches ASCII whitespace.
+         */
+        private fun matchesDefaultPattern(text: CharSequence): Boolean {
+            val lastDotIndex: Int = text.length - 2
+            var atSignIndex: Int = -1
+            var hasDot = false
+            for (index: Int in text.indices) {
+                val character: Char = text[index]
+                if (character.isWhitespace()) return false
+                if (character == '@' && atSignIndex == -1 && index > 0)
+                    atSignIndex = index
+                else if (character == '.' && atSignIndex != -1)
+                    hasDot = hasDot
+                            || index in (atSignIndex + 2)..lastDotIndex
+            }
+            return hasDot
+        }
     }
 }
@@ -0,0 +1,38 @@
+package org.kotools.types.collection
+
+import org.kotools.types.internal.HashSeed
+import org.kotools.types.internal.errorMessage
+
+// Implementation shared by the NotEmptyIntArray, NotEmptyLongArray and
+// NotEmptyDoubleArray types, which can't have a common supertype without
+// boxing their elements.
+
+/**
+ * Throws an [IllegalArgumentException] if the [size] of the primitive array to
+ * wrap in a non-empty array is zero.
+ */
+internal fun requireNotEmptyArray(size: Int) {
+    if (size > 0) return
+    val message: String = errorMessage("Empty array")
+    throw IllegalArgumentException(message)
+}
+
+/**
+ * Throws an [IndexOutOfBoundsException] if the [index] is negative, or greater
+ * than or equal to the [size] of a non-empty array.
+ *
+ * Reading a primitive array out of its bounds doesn't fail on every platform,
+ * so non-empty arrays check their indices explicitly.
+ */
+internal fun checkElementIndex(index: Int, size: Int) {
+    if (index >= 0 && index < size) return
+    val message: String = errorMessage("Index out of bounds", index)
+    throw IndexOutOfBoundsException(message)
+}
+
+/**
+ * Returns the hash code of a non-empty array with the specified [seed] and the
+ * [contentHashCode] of its elements.
+ */
+internal fun notEmptyArrayHashCode(seed: HashSeed, contentHashCode: Int): Int =
+    31 * seed.toInt() + contentHashCode
@@ -0,0 +1,127 @@
+package org.kotools.types.collection
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.kotools.types.collection.NotEmptyDoubleArray.Companion.fromDoubleArray
+import org.kotools.types.collection.NotEmptyDoubleArray.Companion.of
+import org.kotools.types.internal.HashSeed
+import kotlin.jvm.JvmStatic
+
+/**
+ * Represents an array of [Double] values that has at least one element.
+ *
+ * Unlike a `NotEmptyList<Double>`, this type stores its elements in an
+ * underlying [DoubleArray], and reads or iterates over them without boxing.
+ *
+ * See the [of] and the [fromDoubleArray] functions for creating an instance
+ * of this type.
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Using from Kotlin</b>
+ * </summary>
+ *
+ * Here's an example of using this type from Kotlin code:
+ *
+ * SAMPLE: org.kotools.types.collection.NotEmptyArraySample.notEmptyDoubleArray
+ * </details>
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Using from Java</b>
+ * </summary>
+ *
+ * Here's an example of using this type from Java code:
+ *
+ * SAMPLE: org.kotools.types.collection.NotEmptyArrayJavaSample.notEmptyDoubleArray
+ * </details>
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+public class NotEmptyDoubleArray private constructor(
+    private val elements: DoubleArray
+) {
+    // --------------------------- Factory functions ---------------------------
+
+    /** Contains class-level declarations for the [NotEmptyDoubleArray] type. */
+    public companion object {
+        /**
+         * Returns an array starting with the specified [head], and containing
+         * all the elements of the optional [tail].
+         */
+        @JvmStatic
+        public fun of(head: Double, vararg tail: Double): NotEmptyDoubleArray {
+            val elements = DoubleArray(tail.size + 1)
+            elements[0] = head
+            tail.copyInto(elements, destinationOffset = 1)
+            return NotEmptyDoubleArray(elements)
+        }
+
+        /**
+         * Returns an array containing a copy of the specified [elements], or
+         * throws an [IllegalArgumentException] if [elements] is empty.
+         */
+        @JvmStatic
+        public fun fromDoubleArray(elements: DoubleArray): NotEmptyDoubleArray {
+            requireNotEmptyArray(elements.size)
+            return NotEmptyDoubleArray(elements.copyOf())
+        }
+    }
+
+    // ------------------------------ Comparisons ------------------------------
+
+    /**
+     * Returns `true` if the [other] object is a [NotEmptyDoubleArray]
+     * containing the same elements in the same order as this one, or returns
+     * `false` otherwise.
+     */
+    @Suppress("RedundantModalityModifier")
+    final override fun equals(other: Any?): Boolean {
+        if (other !is NotEmptyDoubleArray) return false
+        return this.elements.contentEquals(other.elements)
+    }
+
+    /** Returns a hash code value for this array. */
+    @Suppress("RedundantModalityModifier")
+    final override fun hashCode(): Int = notEmptyArrayHashCode(
+        HashSeed.NotEmptyDoubleArray,
+        this.elements.contentHashCode()
+    )
+
+    // ---------------------------- Element access -----------------------------
+
+    /** The first element of this array. */
+    public val head: Double get() = this.elements[0]
+
+    /** The number of elements in this array, which is strictly positive. */
+    public val size: Int get() = this.elements.size
+
+    /**
+     * Returns the element at the specified [index] in this array, or throws
+     * an [IndexOutOfBoundsException] if [index] is negative, or greater than
+     * or equal to the [size] of this array.
+     */
+    public operator fun get(index: Int): Double {
+        checkElementIndex(index, this.elements.size)
+        return this.elements[index]
+    }
+
+    /** Returns an iterator over the elements of this array. */
+    public operator fun iterator(): DoubleIterator = this.elements.iterator()
+
+    // ------------------------------ Conversions ------------------------------
+
+    /**
+     * Returns a new [DoubleArray] containing all the elements of this array.
+     */
+    public fun toDoubleArray(): DoubleArray = this.elements.copyOf()
+
+    /**
+     * Returns the string representation of this array, which behaves like
+     * the one of a [List] with the same elements (e.g., `[1.5, 2.5]`).
+     */
+    @Suppress("RedundantModalityModifier")
+    final override fun toString(): String = this.elements.contentToString()
+}
@@ -0,0 +1,125 @@
+package org.kotools.types.collection
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.kotools.types.collection.NotEmptyLongArray.Companion.fromLongArray
+import org.kotools.types.collection.NotEmptyLongArray.Companion.of
+import org.kotools.types.internal.HashSeed
+import kotlin.jvm.JvmStatic
+
+/**
+ * Represents an array of [Long] values that has at least one element.
+ *
+ * Unlike a `NotEmptyList<Long>`, this type stores its elements in an
+ * underlying [LongArray], and reads or iterates over them without boxing.
+ *
+ * See the [of] and the [fromLongArray] functions for creating an instance of
+ * this type.
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Using from Kotlin</b>
+ * </summary>
+ *
+ * Here's an example of using this type from Kotlin code:
+ *
+ * SAMPLE: org.kotools.types.collection.NotEmptyArraySample.notEmptyLongArray
+ * </details>
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Using from Java</b>
+ * </summary>
+ *
+ * Here's an example of using this type from Java code:
+ *
+ * SAMPLE: org.kotools.types.collection.NotEmptyArrayJavaSample.notEmptyLongArray
+ * </details>
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+public class NotEmptyLongArray private constructor(
+    private val elements: LongArray
+) {
+    // --------------------------- Factory functions ---------------------------
+
+    /** Contains class-level declarations for the [NotEmptyLongArray] type. */
+    public companion object {
+        /**
+         * Returns an array starting with the specified [head], and containing
+         * all the elements of the optional [tail].
+         */
+        @JvmStatic
+        public fun of(head: Long, vararg tail: Long): NotEmptyLongArray {
+            val elements = LongArray(tail.size + 1)
+            elements[0] = head
+            tail.copyInto(elements, destinationOffset = 1)
+            return NotEmptyLongArray(elements)
+        }
+
+        /**
+         * Returns an array containing a copy of the specified [elements], or
+         * throws an [IllegalArgumentException] if [elements] is empty.
+         */
+        @JvmStatic
+        public fun fromLongArray(elements: LongArray): NotEmptyLongArray {
+            requireNotEmptyArray(elements.size)
+            return NotEmptyLongArray(elements.copyOf())
+        }
+    }
+
+    // ------------------------------ Comparisons ------------------------------
+
+    /**
+     * Returns `true` if the [other] object is a [NotEmptyLongArray] containing
+     * the same elements in the same order as this one, or returns `false`
+     * otherwise.
+     */
+    @Suppress("RedundantModalityModifier")
+    final override fun equals(other: Any?): Boolean {
+        if (other !is NotEmptyLongArray) return false
+        return this.elements.contentEquals(other.elements)
+    }
+
+    /** Returns a hash code value for this array. */
+    @Suppress("RedundantModalityModifier")
+    final override fun hashCode(): Int = notEmptyArrayHashCode(
+        HashSeed.NotEmptyLongArray,
+        this.elements.contentHashCode()
+    )
+
+    // ---------------------------- Element access -----------------------------
+
+    /** The first element of this array. */
+    public val head: Long get() = this.elements[0]
+
+    /** The number of elements in this array, which is strictly positive. */
+    public val size: Int get() = this.elements.size
+
+    /**
+     * Returns the element at the specified [index] in this array, or throws
+     * an [IndexOutOfBoundsException] if [index] is negative, or greater than
+     * or equal to the [size] of this array.
+     */
+    public operator fun get(index: Int): Long {
+        checkElementIndex(index, this.elements.size)
+        return this.elements[index]
+    }
+
+    /** Returns an iterator over the elements of this array. */
+    public operator fun iterator(): LongIterator = this.elements.iterator()
+
+    // ------------------------------ Conversions ------------------------------
+
+    /** Returns a new [LongArray] containing all the elements of this array. */
+    public fun toLongArray(): LongArray = this.elements.copyOf()
+
+    /**
+     * Returns the string representation of this array, which behaves like
+     * the one of a [List] with the same elements (e.g., `[1, 2, 3]`).
+     */
+    @Suppress("RedundantModalityModifier")
+    final override fun toString(): String = this.elements.contentToString()
+}
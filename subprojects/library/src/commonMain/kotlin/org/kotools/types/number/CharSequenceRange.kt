@@ -0,0 +1,14 @@
+package org.kotools.types.number
+
+/**
+ * Throws an [IndexOutOfBoundsException] if [startIndex] is negative, if
+ * [endIndex] is greater than the length of this character sequence, or if
+ * [startIndex] is greater than [endIndex].
+ */
+internal fun CharSequence.checkRange(startIndex: Int, endIndex: Int) {
+    if (startIndex >= 0 && startIndex <= endIndex && endIndex <= this.length)
+        return
+    val message = "startIndex: $startIndex, endIndex: $endIndex, " +
+            "length: ${this.length}"
+    throw IndexOutOfBoundsException(message)
+}
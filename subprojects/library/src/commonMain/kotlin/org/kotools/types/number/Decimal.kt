@@ -9,6 +9,7 @@ import org.kotools.types.number.Decimal.Companion.parse
 import org.kotools.types.number.Decimal.Companion.parseOrNull
 import kotlin.jvm.JvmStatic
 import kotlin.jvm.JvmSynthetic
+import kotlin.math.absoluteValue
 
 /**
  * Represents a mathematical decimal number (ℚ∩ℝ_decimal), with exact
@@ -35,18 +36,20 @@ import kotlin.jvm.JvmSynthetic
  * <br>
  * <details>
  * <summary>
- *     <b>Why no division?</b>
+ *     <b>Why no division operator?</b>
  * </summary>
  *
- * ### Why no division?
+ * ### Why no division operator?
  *
  * The set of terminating decimal numbers is **not** closed under division:
  * dividing two terminating decimals can produce a non-terminating result
- * (e.g., `1 / 3 = 0.333...`). Division is therefore intentionally excluded
- * from this type.
+ * (e.g., `1 / 3 = 0.333...`). This type therefore doesn't provide a `/`
+ * operator, which would have to silently pick where to stop the quotient.
  *
- * This is consistent with how [Integer] excludes operations that would leave
- * the set of integers (square roots, noninteger divisions without remainder).
+ * Instead, the [div] functions require the caller to state how many digits
+ * to keep, either as a scale or as a [DecimalContext], and which
+ * [RoundingMode] to apply to the other ones. This makes the loss of
+ * precision an explicit decision at the call site.
  * </details>
  *
  * <br>
@@ -64,7 +67,7 @@ import kotlin.jvm.JvmSynthetic
  * [ordering operators][compareTo] (`x < y`, `x <= y`, `x > y`, `x >= y`).
  * - **Arithmetic operations:** [Add][plus] (`x + y`), [subtract][minus]
  * (`x - y`), [multiply][times] (`x * y`), and [negate][unaryMinus] (`-x`)
- * decimals without overflow.
+ * decimals without overflow, or [divide][div] them with an explicit rounding.
  * - **Conversions:** Convert to its canonical decimal string representation
  * (see [Decimal.toString]).
  * </details>
@@ -73,17 +76,127 @@ import kotlin.jvm.JvmSynthetic
  */
 @ExperimentalKotoolsTypesApi
 public class Decimal private constructor(
-    private val unscaledValue: Integer,
+    private val compact: Long,
+    private val inflated: Integer?,
     private val scale: Int
 ) {
     init {
         check(this.scale >= 0) { "Negative decimal scale: ${this.scale}" }
     }
 
+    /**
+     * The unscaled value of this decimal, which is held by [compact] while it
+     * fits in a [Long], and by [inflated] only when it doesn't.
+     *
+     * Instances are always in canonical form: [inflated] is `null` if and
+     * only if the unscaled value is in the [Long] range. This keeps [equals]
+     * and [hashCode] consistent between both representations.
+     */
+    private val unscaledValue: Integer
+        get() = this.inflated ?: Integer.fromLong(this.compact)
+
+    private val isCompact: Boolean get() = this.inflated == null
+
     // --------------------------- Factory functions ---------------------------
 
     /** Contains class-level declarations for the [Decimal] type. */
     public companion object {
+        /**
+         * Powers of ten from 10^0 to 10^18, which is the largest one fitting
+         * in a [Long].
+         */
+        private val compactPowersOfTen: LongArray = LongArray(size = 19) {
+            var power = 1L
+            repeat(it) { power *= 10 }
+            power
+        }
+
+        /** The [compactPowersOfTen] as [NonZeroInteger] values. */
+        private val powersOfTen: Array<NonZeroInteger> =
+            Array(compactPowersOfTen.size) {
+                NonZeroInteger.fromLong(compactPowersOfTen[it])
+            }
+
+        /**
+         * Returns 10 raised to the power of the specified [exponent], which
+         * should be non-negative.
+         */
+        private fun powerOfTen(exponent: Int): NonZeroInteger {
+            val lastIndex: Int = this.powersOfTen.lastIndex
+            if (exponent <= lastIndex) return this.powersOfTen[exponent]
+            // 10^exponent = 10^remainder * (10^lastIndex)^quotient, where the
+            // second factor is computed by squaring for needing a logarithmic
+            // number of multiplications only.
+            var result: Integer =
+                this.powersOfTen[exponent % lastIndex].toInteger()
+            var base: Integer = this.powersOfTen[lastIndex].toInteger()
+            var quotient: Int = exponent / lastIndex
+            while (quotient > 0) {
+                if ((quotient and 1) == 1) result *= base
+                quotient = quotient shr 1
+                if (quotient > 0) base *= base
+            }
+            return NonZeroInteger.fromInteger(result)
+        }
+
+        /**
+         * Returns a [Decimal] with the specified unscaled [value] and [scale],
+         * using the [Long]-backed representation when [value] fits in it.
+         */
+        private fun fromUnscaled(value: Integer, scale: Int): Decimal =
+            if (value.isInLongRange()) Decimal(value.toLong(), null, scale)
+            else Decimal(compact = 0, value, scale)
+
+        /**
+         * Returns the canonical [Decimal] with the specified unscaled [value]
+         * and [scale], stripping trailing fractional zeros before allocating
+         * it.
+         */
+        private fun fromCompact(value: Long, scale: Int): Decimal {
+            var unscaled: Long = value
+            var newScale: Int = scale
+            while (newScale > 0 && unscaled % 10 == 0L) {
+                unscaled /= 10
+                newScale--
+            }
+            return Decimal(unscaled, inflated = null, newScale)
+        }
+
+        /**
+         * Returns the number of decimal digits of the specified [value],
+         * ignoring sign.
+         */
+        private fun digitCount(value: Long): Int {
+            // Compares magnitudes on the negative side, which includes the
+            // magnitude of Long.MIN_VALUE.
+            val negative: Long = if (value > 0) -value else value
+            for (exponent: Int in 1 until compactPowersOfTen.size)
+                if (negative > -compactPowersOfTen[exponent]) return exponent
+            return compactPowersOfTen.size
+        }
+
+        /**
+         * Returns `true` if multiplying the specified [value] by 10^[exponent]
+         * doesn't overflow a [Long], or returns `false` otherwise.
+         */
+        private fun isCompactlyScalable(value: Long, exponent: Int): Boolean {
+            if (value == 0L) return true
+            if (exponent >= compactPowersOfTen.size) return false
+            val bound: Long = Long.MAX_VALUE / compactPowersOfTen[exponent]
+            return value in -bound..bound
+        }
+
+        /**
+         * Returns the canonical [Decimal] whose unscaled value at the
+         * specified [scale] is [quotient]. A negative [scale] multiplies the
+         * [quotient] by the matching power of ten.
+         */
+        private fun fromScaledQuotient(quotient: Integer, scale: Int): Decimal {
+            if (scale >= 0) return fromUnscaled(quotient, scale).normalize()
+            val factor: NonZeroInteger = powerOfTen(-scale)
+            return fromUnscaled(quotient * factor.toInteger(), scale = 0)
+        }
+
         /**
          * Returns a [Decimal] representing the specified [value].
          *
@@ -112,10 +225,8 @@ public class Decimal private constructor(
          * </details>
          */
         @JvmStatic
-        public fun fromLong(value: Long): Decimal {
-            val unscaled: Integer = Integer.fromLong(value)
-            return fromInteger(unscaled)
-        }
+        public fun fromLong(value: Long): Decimal =
+            Decimal(value, inflated = null, scale = 0)
 
         /**
          * Returns a [Decimal] representing the specified [value].
@@ -146,7 +257,7 @@ public class Decimal private constructor(
          */
         @JvmStatic
         public fun fromInteger(value: Integer): Decimal =
-            Decimal(value, scale = 0)
+            fromUnscaled(value, scale = 0)
 
         /**
          * Returns a [Decimal] representing the number described by [value],
@@ -196,12 +307,13 @@ public class Decimal private constructor(
          */
         @JvmStatic
         public fun parse(value: String): Decimal {
-            if (!value.isDecimal()) {
+            val decimal: Decimal? = this.parseOrNull(value)
+            if (decimal == null) {
                 val message: String =
                     errorMessage("Invalid decimal representation", value)
                 throw NumberFormatException(message)
             }
-            return value.toDecimal()
+            return decimal
         }
 
         /**
@@ -242,14 +354,114 @@ public class Decimal private constructor(
          * returning `null` in case of invalid [value].
          */
         @JvmSynthetic
-        public fun parseOrNull(value: String): Decimal? {
-            if (!value.isDecimal()) return null
-            return value.toDecimal()
+        public fun parseOrNull(value: String): Decimal? =
+            this.scan(value, startIndex = 0, endIndex = value.length)
+
+        /**
+         * Returns a [Decimal] representing the number described by the
+         * characters of [value] from [startIndex] (inclusive) to [endIndex]
+         * (exclusive), or throws [NumberFormatException] if these characters
+         * don't represent a decimal number.
+         *
+         * This function accepts the same representations as the [parse]
+         * function taking a [String], and reads the characters in place.
+         * As a result, parsing a field of a larger buffer doesn't need to copy
+         * it into a new [String] first.
+         *
+         * This function throws an [IndexOutOfBoundsException] if [startIndex]
+         * is negative, if [endIndex] is greater than the length of [value], or
+         * if [startIndex] is greater than [endIndex].
+         *
+         * <br>
+         * <details>
+         * <summary>
+         *     <b>Calling from Kotlin</b>
+         * </summary>
+         *
+         * Here's an example of calling this function from Kotlin code:
+         *
+         * SAMPLE: org.kotools.types.number.DecimalSample.parsingRange
+         * </details>
+         *
+         * <br>
+         * <details>
+         * <summary>
+         *     <b>Calling from Java</b>
+         * </summary>
+         *
+         * Here's an example of calling this function from Java code:
+         *
+         * SAMPLE: org.kotools.types.number.DecimalJavaSample.parsingRange
+         * </details>
+         * <br>
+         *
+         * See the [parseOrNull] function for returning `null` instead of
+         * throwing an exception in case of invalid characters.
+         *
+         * @since 5.3.0
+         */
+        @JvmStatic
+        public fun parse(
+            value: CharSequence,
+            startIndex: Int,
+            endIndex: Int
+        ): Decimal {
+            val decimal: Decimal? = this.scan(value, startIndex, endIndex)
+            if (decimal == null) {
+                val text: String = value.substring(startIndex, endIndex)
+                val message: String =
+                    errorMessage("Invalid decimal representation", text)
+                throw NumberFormatException(message)
+            }
+            return decimal
         }
 
         /**
-         * Returns `true` if this string represents a decimal number, or returns
-         * `false` otherwise.
+         * Returns a [Decimal] representing the number described by the
+         * characters of [value] from [startIndex] (inclusive) to [endIndex]
+         * (exclusive), or returns `null` if these characters don't represent a
+         * decimal number.
+         *
+         * This function accepts the same representations as the [parseOrNull]
+         * function taking a [String], and reads the characters in place.
+         * As a result, parsing a field of a larger buffer doesn't need to copy
+         * it into a new [String] first.
+         *
+         * This function throws an [IndexOutOfBoundsException] if [startIndex]
+         * is negative, if [endIndex] is greater than the length of [value], or
+         * if [startIndex] is greater than [endIndex].
+         *
+         * <br>
+         * <details>
+         * <summary>
+         *     <b>Calling from Kotlin</b>
+         * </summary>
+         *
+         * Here's an example of calling this function from Kotlin code:
+         *
+         * SAMPLE: org.kotools.types.number.DecimalSample.parsingRange
+         * </details>
+         * <br>
+         *
+         * This function is hidden from Java, because nullability is not
+         * explicit in its type system.
+         *
+         * See the [parse] function for throwing an exception instead of
+         * returning `null` in case of invalid characters.
+         *
+         * @since 5.3.0
+         */
+        @JvmSynthetic
+        public fun parseOrNull(
+            value: CharSequence,
+            startIndex: Int,
+            endIndex: Int
+        ): Decimal? = this.scan(value, startIndex, endIndex)
+
+        /**
+         * Validates and interprets the characters of [value] from [startIndex]
+         * to [endIndex], or returns `null` if they don't represent a decimal
+         * number.
          *
          * A valid decimal representation is defined as:
          *
@@ -261,47 +473,55 @@ public class Decimal private constructor(
          *
          * _(grammar written in Wirth-style EBNF, where `[]` denotes
          * optionality and `{}` denotes repetition)_
-         */
-        private fun String.isDecimal(): Boolean {
-            val unsigned: String = this.removePrefix("+")
-                .removePrefix("-")
-            if (unsigned.isBlank()) return false
-
-            val dot = '.'
-            val digitRange: CharRange = '0'..'9'
-            if (dot !in unsigned) return unsigned.all { it in digitRange }
-
-            val integerPart: String = unsigned.substringBefore(dot)
-            val fractionalPart: String = unsigned.substringAfter(dot)
-            return integerPart.isNotEmpty()
-                    && integerPart.all { it in digitRange }
-                    && fractionalPart.isNotEmpty()
-                    && fractionalPart.all { it in digitRange }
-        }
-
-        /**
-         * Normalizes this decimal string and returns a [Decimal] from it.
          *
          * The resulting [Decimal] is already canonical - no [Decimal.normalize]
-         * needed.
+         * needed: trailing fractional zeros are excluded from its unscaled
+         * value, which is read around the decimal point without copying.
          */
-        private fun String.toDecimal(): Decimal {
-            val dot = '.'
-            if (dot !in this) {
-                val unscaled: Integer = Integer.parse(this)
-                return Decimal(unscaled, scale = 0)
+        private fun scan(
+            value: CharSequence,
+            startIndex: Int,
+            endIndex: Int
+        ): Decimal? {
+            value.checkRange(startIndex, endIndex)
+            if (startIndex == endIndex) return null
+            val first: Char = value[startIndex]
+            val digitsStart: Int =
+                if (first == '+' || first == '-') startIndex + 1
+                else startIndex
+            var dotIndex: Int = -1
+            // End (exclusive) of the fractional digits without trailing zeros.
+            var significantEnd: Int = -1
+            var index: Int = digitsStart
+            while (index < endIndex) {
+                val character: Char = value[index]
+                when {
+                    character == '.' -> {
+                        if (dotIndex != -1 || index == digitsStart) return null
+                        dotIndex = index
+                    }
+                    character !in '0'..'9' -> return null
+                    dotIndex != -1 && character != '0' ->
+                        significantEnd = index + 1
+                }
+                index++
             }
-
-            val sign: String = if (this.startsWith('-')) "-" else ""
-            val unsigned: String = this.removePrefix("+")
-                .removePrefix("-")
-            val integerPart: String = unsigned.substringBefore(dot)
-            val fractionalPart: String = unsigned.substringAfter(dot)
-                .trimEnd('0')
-            val unscaled: Integer =
-                Integer.parse("$sign$integerPart$fractionalPart")
-
-            return Decimal(unscaled, scale = fractionalPart.length)
+            if (digitsStart == endIndex || dotIndex == endIndex - 1)
+                return null
+            if (dotIndex == -1 || significantEnd == -1) {
+                val integerEnd: Int = if (dotIndex == -1) endIndex else dotIndex
+                val unscaled: Integer =
+                    Integer.scan(value, startIndex, integerEnd) ?: return null
+                return fromUnscaled(unscaled, scale = 0)
+            }
+            val unscaled: Integer = Integer.scan(
+                value,
+                startIndex,
+                endIndex = significantEnd,
+                skippedIndex = dotIndex
+            ) ?: return null
+            val scale: Int = significantEnd - dotIndex - 1
+            return fromUnscaled(unscaled, scale)
         }
     }
 
@@ -337,7 +557,8 @@ public class Decimal private constructor(
      */
     @Suppress("RedundantModalityModifier")
     final override fun equals(other: Any?): Boolean = other is Decimal
-            && this.unscaledValue == other.unscaledValue
+            && this.compact == other.compact
+            && this.inflated == other.inflated
             && this.scale == other.scale
 
     /**
@@ -372,7 +593,9 @@ public class Decimal private constructor(
     @Suppress("RedundantModalityModifier")
     final override fun hashCode(): Int {
         val seed: Int = HashSeed.Decimal.toInt()
-        return 31 * seed + (31 * this.unscaledValue.hashCode() + this.scale)
+        val unscaledHashCode: Int =
+            this.inflated?.hashCode() ?: this.compact.hashCode()
+        return 31 * seed + (31 * unscaledHashCode + this.scale)
     }
 
     /**
@@ -405,6 +628,13 @@ public class Decimal private constructor(
      */
     public operator fun compareTo(other: Decimal): Int {
         val maxScale: Int = maxOf(this.scale, other.scale)
+        if (this.isCompactlyScalableTo(maxScale)
+            && other.isCompactlyScalableTo(maxScale)
+        ) {
+            val x: Long = this.compactScaledTo(maxScale)
+            val y: Long = other.compactScaledTo(maxScale)
+            return x.compareTo(y)
+        }
         return this.scaleUpTo(maxScale).compareTo(other.scaleUpTo(maxScale))
     }
 
@@ -436,7 +666,9 @@ public class Decimal private constructor(
      * </details>
      */
     public operator fun unaryMinus(): Decimal =
-        Decimal(-this.unscaledValue, this.scale)
+        if (this.isCompact && this.compact != Long.MIN_VALUE)
+            Decimal(-this.compact, inflated = null, this.scale)
+        else fromUnscaled(-this.unscaledValue, this.scale)
 
     /**
      * Adds the [other] decimal to this one.
@@ -465,8 +697,18 @@ public class Decimal private constructor(
      */
     public operator fun plus(other: Decimal): Decimal {
         val maxScale: Int = maxOf(this.scale, other.scale)
+        if (this.isCompactlyScalableTo(maxScale)
+            && other.isCompactlyScalableTo(maxScale)
+        ) {
+            val x: Long = this.compactScaledTo(maxScale)
+            val y: Long = other.compactScaledTo(maxScale)
+            val sum: Long = x + y
+            // Same overflow check as Math.addExact, without throwing.
+            if (((x xor sum) and (y xor sum)) >= 0)
+                return fromCompact(sum, maxScale)
+        }
         val sum: Integer = this.scaleUpTo(maxScale) + other.scaleUpTo(maxScale)
-        return Decimal(sum, maxScale).normalize()
+        return fromUnscaled(sum, maxScale).normalize()
     }
 
     /**
@@ -496,8 +738,18 @@ public class Decimal private constructor(
      */
     public operator fun minus(other: Decimal): Decimal {
         val maxScale: Int = maxOf(this.scale, other.scale)
+        if (this.isCompactlyScalableTo(maxScale)
+            && other.isCompactlyScalableTo(maxScale)
+        ) {
+            val x: Long = this.compactScaledTo(maxScale)
+            val y: Long = other.compactScaledTo(maxScale)
+            val diff: Long = x - y
+            // Same overflow check as Math.subtractExact, without throwing.
+            if (((x xor y) and (x xor diff)) >= 0)
+                return fromCompact(diff, maxScale)
+        }
         val diff: Integer = this.scaleUpTo(maxScale) - other.scaleUpTo(maxScale)
-        return Decimal(diff, maxScale).normalize()
+        return fromUnscaled(diff, maxScale).normalize()
     }
 
     /**
@@ -526,9 +778,134 @@ public class Decimal private constructor(
      * </details>
      */
     public operator fun times(other: Decimal): Decimal {
-        val product: Integer = this.unscaledValue * other.unscaledValue
         val newScale: Int = this.scale + other.scale
-        return Decimal(product, newScale).normalize()
+        if (this.isCompact && other.isCompact) {
+            val x: Long = this.compact
+            val y: Long = other.compact
+            val product: Long = x * y
+            // Same overflow check as Math.multiplyExact, without throwing.
+            val hasLargeOperand: Boolean =
+                (x.absoluteValue or y.absoluteValue) ushr 31 != 0L
+            val isOverflow: Boolean = hasLargeOperand
+                    && (y != 0L && product / y != x
+                    || x == Long.MIN_VALUE && y == -1L)
+            if (!isOverflow) return fromCompact(product, newScale)
+        }
+        val product: Integer = this.unscaledValue * other.unscaledValue
+        return fromUnscaled(product, newScale).normalize()
+    }
+
+    /**
+     * Divides this decimal by the [other] one, keeping at most [scale]
+     * fractional digits and rounding the other ones with the specified
+     * [roundingMode].
+     *
+     * The result is canonical, so its trailing fractional zeros are removed:
+     * dividing `1` by `4` with a scale of `3` returns `0.25`.
+     *
+     * This function throws an [ArithmeticException] if the [other] decimal is
+     * zero, or if [roundingMode] is [RoundingMode.Unnecessary] and the
+     * quotient has more than [scale] fractional digits.
+     * It also throws an [IllegalArgumentException] if [scale] is negative.
+     *
+     * <br>
+     * <details>
+     * <summary>
+     *     <b>Calling from Kotlin</b>
+     * </summary>
+     *
+     * Here's an example of calling this function from Kotlin code:
+     *
+     * SAMPLE: org.kotools.types.number.DecimalSample.divWithScale
+     * </details>
+     *
+     * <br>
+     * <details>
+     * <summary>
+     *     <b>Calling from Java</b>
+     * </summary>
+     *
+     * Here's an example of calling this function from Java code:
+     *
+     * SAMPLE: org.kotools.types.number.DecimalJavaSample.divWithScale
+     * </details>
+     * <br>
+     *
+     * See the [div] function accepting a [DecimalContext] for limiting the
+     * number of significant digits instead of fractional digits.
+     *
+     * @since 5.3.0
+     */
+    public fun div(
+        other: Decimal,
+        scale: Int,
+        roundingMode: RoundingMode
+    ): Decimal {
+        require(scale >= 0) { errorMessage("Negative scale", scale) }
+        other.checkNonZeroDivisor()
+        val quotient: Integer = this.roundedQuotient(other, scale, roundingMode)
+        return fromScaledQuotient(quotient, scale)
+    }
+
+    /**
+     * Divides this decimal by the [other] one, keeping at most the number of
+     * significant digits specified by the [context], and rounding the other
+     * ones with its rounding mode.
+     *
+     * The result is canonical, so its trailing fractional zeros are removed:
+     * dividing `1` by `4` with a precision of `3` returns `0.25`.
+     *
+     * This function throws an [ArithmeticException] if the [other] decimal is
+     * zero, or if the rounding mode of the [context] is
+     * [RoundingMode.Unnecessary] and the quotient has more significant digits
+     * than its precision.
+     *
+     * <br>
+     * <details>
+     * <summary>
+     *     <b>Calling from Kotlin</b>
+     * </summary>
+     *
+     * Here's an example of calling this function from Kotlin code:
+     *
+     * SAMPLE: org.kotools.types.number.DecimalSample.divWithContext
+     * </details>
+     *
+     * <br>
+     * <details>
+     * <summary>
+     *     <b>Calling from Java</b>
+     * </summary>
+     *
+     * Here's an example of calling this function from Java code:
+     *
+     * SAMPLE: org.kotools.types.number.DecimalJavaSample.divWithContext
+     * </details>
+     * <br>
+     *
+     * See the [div] function accepting a scale for limiting the number of
+     * fractional digits instead of significant digits.
+     *
+     * @since 5.3.0
+     */
+    public fun div(other: Decimal, context: DecimalContext): Decimal {
+        other.checkNonZeroDivisor()
+        if (this.isZero()) return fromLong(0)
+        // The quotient has a magnitude between 10^(exponent - 1) inclusive
+        // and 10^(exponent + 1) exclusive, so the first guess of its scale
+        // keeps either the expected number of digits, or one more.
+        val exponent: Int = (this.unscaledDigitCount() - this.scale) -
+                (other.unscaledDigitCount() - other.scale)
+        val precision: Int = context.precision
+        val roundingMode: RoundingMode = context.roundingMode
+        var scale: Int = precision - exponent
+        var quotient: Integer = this.roundedQuotient(other, scale, roundingMode)
+        val limit: Integer = powerOfTen(precision).toInteger()
+        if (quotient.absoluteValue() >= limit) {
+            scale--
+            quotient = this.roundedQuotient(other, scale, roundingMode)
+        }
+        return fromScaledQuotient(quotient, scale)
     }
 
     // ------------------------------ Conversions ------------------------------
@@ -564,7 +941,7 @@ public class Decimal private constructor(
      */
     @Suppress("RedundantModalityModifier")
     final override fun toString(): String {
-        val str: String = this.unscaledValue.toString()
+        val str: String = this.inflated?.toString() ?: this.compact.toString()
         if (this.scale == 0) return str
         val sign: String = if (str.startsWith('-')) "-" else ""
         val digits: String = str.removePrefix("-")
@@ -578,20 +955,43 @@ public class Decimal private constructor(
 
     // ----------------------------- Internals ---------------------------------
 
+    private fun isZero(): Boolean = this.isCompact && this.compact == 0L
+
+    /**
+     * Returns `true` if this decimal is [Long]-backed and stays in the [Long]
+     * range when aligned to the specified [targetScale], or returns `false`
+     * otherwise.
+     */
+    private fun isCompactlyScalableTo(targetScale: Int): Boolean =
+        this.isCompact
+                && isCompactlyScalable(this.compact, targetScale - this.scale)
+
+    /**
+     * Multiplies [compact] by 10^([targetScale] - [scale]), which should be
+     * checked with [isCompactlyScalableTo] first.
+     */
+    private fun compactScaledTo(targetScale: Int): Long {
+        if (this.scale == targetScale || this.compact == 0L)
+            return this.compact
+        return this.compact * compactPowersOfTen[targetScale - this.scale]
+    }
+
     /**
      * Multiplies [unscaledValue] by 10^([targetScale] - [scale]) to align
-     * scale.
+     * scale, using a single multiplication.
      */
     private fun scaleUpTo(targetScale: Int): Integer {
         if (this.scale == targetScale) return this.unscaledValue
-        var result: Integer = this.unscaledValue
-        repeat(targetScale - this.scale) { result *= Integer.TEN }
-        return result
+        val factor: NonZeroInteger = powerOfTen(targetScale - this.scale)
+        return this.unscaledValue * factor.toInteger()
     }
 
     /**
      * Strips trailing fractional zeros, or returns this decimal number if
-     * [scale] is `0`.
+     * [scale] is `0` or if [unscaledValue] is already minimal.
+     *
+     * Trailing zeros are counted with remainders only, and then stripped with
+     * a single division by the matching power of ten.
      *
      * [Integer.rem] uses Euclidean semantics (`remainder >= 0`), which
      * correctly identifiers divisibility by 10 for negative unscaled values.
@@ -600,16 +1000,121 @@ public class Decimal private constructor(
      * scale = 0)`
      */
     private fun normalize(): Decimal {
-        if (this.scale == 0) return this
-        val ten: NonZeroInteger = NonZeroInteger.fromInteger(Integer.TEN)
-        var current: Decimal = this
-        while (current.scale > 0) {
-            val remainder: Integer = (current.unscaledValue % ten).toInteger()
+        if (this.isCompact) {
+            val isMinimal: Boolean =
+                this.scale == 0 || this.compact % 10 != 0L
+            return if (isMinimal) this
+            else fromCompact(this.compact, this.scale)
+        }
+        var zeros = 0
+        while (zeros < this.scale) {
+            val divisor: NonZeroInteger = powerOfTen(zeros + 1)
+            val remainder: Integer = (this.unscaledValue % divisor).toInteger()
             if (remainder != Integer.ZERO) break
-            val unscaledValue: Integer = current.unscaledValue / ten
-            val scale: Int = current.scale - 1
-            current = Decimal(unscaledValue, scale)
+            zeros++
+        }
+        if (zeros == 0) return this
+        val unscaledValue: Integer = this.unscaledValue / powerOfTen(zeros)
+        return fromUnscaled(unscaledValue, this.scale - zeros)
+    }
+
+    private fun checkNonZeroDivisor() {
+        if (!this.isZero()) return
+        val message: String = errorMessage("Division by zero")
+        throw ArithmeticException(message)
+    }
+
+    /**
+     * Returns the unscaled value, at the specified [scale], of the quotient of
+     * dividing this decimal by the [other] one, rounded with the specified
+     * [roundingMode].
+     *
+     * The [scale] can be negative here, for rounding to tens, hundreds, etc.
+     * The quotient is computed with a single Euclidean division of the
+     * aligned unscaled values, without any textual round-trip.
+     */
+    private fun roundedQuotient(
+        other: Decimal,
+        scale: Int,
+        roundingMode: RoundingMode
+    ): Integer {
+        val shift: Int = other.scale + scale - this.scale
+        val numerator: Integer =
+            if (shift > 0) this.unscaledValue * powerOfTen(shift).toInteger()
+            else this.unscaledValue
+        val denominator: Integer =
+            if (shift < 0) other.unscaledValue * powerOfTen(-shift).toInteger()
+            else other.unscaledValue
+        val isNegative: Boolean =
+            (numerator < Integer.ZERO) != (denominator < Integer.ZERO)
+        val dividend: Integer = numerator.absoluteValue()
+        val divisor: NonZeroInteger =
+            NonZeroInteger.fromInteger(denominator.absoluteValue())
+        val truncated: Integer = dividend / divisor
+        val remainder: Integer = (dividend % divisor).toInteger()
+        val isRoundedAwayFromZero: Boolean = roundingMode.isAwayFromZero(
+            truncated,
+            remainder,
+            divisor.toInteger(),
+            isNegative
+        )
+        val magnitude: Integer =
+            if (isRoundedAwayFromZero) truncated + Integer.fromLong(1)
+            else truncated
+        return if (isNegative) -magnitude else magnitude
+    }
+
+    /**
+     * Returns `true` if this rounding mode increments the magnitude of the
+     * [truncated] quotient, based on the [remainder] of the division by the
+     * [divisor], or returns `false` otherwise.
+     */
+    private fun RoundingMode.isAwayFromZero(
+        truncated: Integer,
+        remainder: Integer,
+        divisor: Integer,
+        isNegative: Boolean
+    ): Boolean {
+        if (remainder == Integer.ZERO) return false
+        val halfComparison: Int = (remainder + remainder).compareTo(divisor)
+        return when (this) {
+            RoundingMode.Up -> true
+            RoundingMode.Down -> false
+            RoundingMode.Ceiling -> !isNegative
+            RoundingMode.Floor -> isNegative
+            RoundingMode.HalfUp -> halfComparison >= 0
+            RoundingMode.HalfDown -> halfComparison > 0
+            RoundingMode.HalfEven ->
+                halfComparison > 0 || halfComparison == 0 && truncated.isOdd()
+            RoundingMode.Unnecessary -> {
+                val message: String = errorMessage("Rounding necessary")
+                throw ArithmeticException(message)
+            }
+        }
+    }
+
+    /** Returns the absolute value of this integer. */
+    private fun Integer.absoluteValue(): Integer =
+        if (this < Integer.ZERO) -this else this
+
+    /** Returns `true` if this integer is odd, or returns `false` otherwise. */
+    private fun Integer.isOdd(): Boolean {
+        val remainder: NonNegativeInteger = this % NonZeroInteger.fromLong(2)
+        return remainder != NonNegativeInteger.fromLong(0)
+    }
+
+    /** Returns the number of decimal digits of [unscaledValue]. */
+    private fun unscaledDigitCount(): Int {
+        val inflated: Integer = this.inflated
+            ?: return digitCount(this.compact)
+        // Strips 18 digits per division, until the rest fits in a Long.
+        var quotient: Integer = inflated.absoluteValue()
+        val divisor: NonZeroInteger = powerOfTen(compactPowersOfTen.lastIndex)
+        var count = 0
+        while (!quotient.isInLongRange()) {
+            quotient /= divisor
+            count += compactPowersOfTen.lastIndex
         }
-        return current
+        return count + digitCount(quotient.toLong())
     }
 }
@@ -0,0 +1,105 @@
+package org.kotools.types.number
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.kotools.types.internal.HashSeed
+import org.kotools.types.internal.errorMessage
+import org.kotools.types.number.DecimalContext.Companion.of
+import kotlin.jvm.JvmStatic
+
+/**
+ * Represents the precision settings of a [Decimal] division: the maximum
+ * number of significant digits of its result, and the [RoundingMode] applied
+ * to the digits beyond it.
+ *
+ * See the [of] function for creating an instance of this type.
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+public class DecimalContext private constructor(
+    internal val precision: Int,
+    internal val roundingMode: RoundingMode
+) {
+    // --------------------------- Factory functions ---------------------------
+
+    /** Contains class-level declarations for the [DecimalContext] type. */
+    public companion object {
+        /**
+         * Returns a context keeping at most [precision] significant digits,
+         * and rounding the other digits with the specified [roundingMode].
+         *
+         * This function throws an [IllegalArgumentException] if [precision]
+         * is zero or negative.
+         *
+         * <br>
+         * <details>
+         * <summary>
+         *     <b>Calling from Kotlin</b>
+         * </summary>
+         *
+         * Here's an example of calling this function from Kotlin code:
+         *
+         * SAMPLE: org.kotools.types.number.DecimalSample.divWithContext
+         * </details>
+         *
+         * <br>
+         * <details>
+         * <summary>
+         *     <b>Calling from Java</b>
+         * </summary>
+         *
+         * Here's an example of calling this function from Java code:
+         *
+         * SAMPLE: org.kotools.types.number.DecimalJavaSample.divWithContext
+         * </details>
+         *
+         * @since 5.3.0
+         */
+        @JvmStatic
+        public fun of(
+            precision: Int,
+            roundingMode: RoundingMode
+        ): DecimalContext {
+            require(precision > 0) {
+                errorMessage("Non-positive precision", precision)
+            }
+            return DecimalContext(precision, roundingMode)
+        }
+    }
+
+    // ------------------------------ Comparisons ------------------------------
+
+    /**
+     * Returns `true` if the [other] object is an instance of [DecimalContext]
+     * with the same precision and rounding mode as this context, or returns
+     * `false` otherwise.
+     */
+    @Suppress("RedundantModalityModifier")
+    final override fun equals(other: Any?): Boolean =
+        other is DecimalContext && this.precision == other.precision &&
+                this.roundingMode == other.roundingMode
+
+    /**
+     * Returns a hash code value for this context.
+     *
+     * This function follows the contract of [Any.hashCode]: two contexts that
+     * are [equal][equals] produce the same hash code.
+     */
+    @Suppress("RedundantModalityModifier")
+    final override fun hashCode(): Int {
+        val seed: Int = HashSeed.DecimalContext.toInt()
+        val settings: Int = 31 * this.precision + this.roundingMode.ordinal
+        return 31 * seed + settings
+    }
+
+    // ------------------------------ Conversions ------------------------------
+
+    /**
+     * Returns the string representation of this context, including its
+     * precision and its rounding mode.
+     */
+    @Suppress("RedundantModalityModifier")
+    final override fun toString(): String =
+        "DecimalContext(precision=${this.precision}, " +
+                "roundingMode=${this.roundingMode})"
+}
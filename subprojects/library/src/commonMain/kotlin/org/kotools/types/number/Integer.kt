@@ -124,11 +124,18 @@ public class Integer private constructor(
 
     /** Contains class-level declarations for the [Integer] type. */
     public companion object {
-        @get:JvmSynthetic
-        internal val ZERO: Integer = this.fromLong(0)
+        private const val CACHE_LOW: Long = -1024
+        private const val CACHE_HIGH: Long = 1024
+
+        /**
+         * Canonical instances of the integers from [CACHE_LOW] to [CACHE_HIGH],
+         * created on first use by [fromLong] and [parse].
+         */
+        private val cache: Array<Integer?> =
+            arrayOfNulls((CACHE_HIGH - CACHE_LOW + 1).toInt())
 
         @get:JvmSynthetic
-        internal val TEN: Integer = this.fromLong(10)
+        internal val ZERO: Integer = this.fromLong(0)
 
         /**
          * Returns an [Integer] representing the specified [value].
@@ -161,6 +168,8 @@ public class Integer private constructor(
          */
         @JvmStatic
         public fun fromLong(value: Long): Integer {
+            val cached: Integer? = this.cachedOrNull(value)
+            if (cached != null) return cached
             val delegate = PlatformInteger(value)
             return Integer(delegate)
         }
@@ -215,14 +224,13 @@ public class Integer private constructor(
          */
         @JvmStatic
         public fun parse(value: String): Integer {
-            if (!value.isInteger()) {
+            val integer: Integer? = this.parseOrNull(value)
+            if (integer == null) {
                 val message: String =
                     errorMessage("Invalid integer representation", value)
                 throw NumberFormatException(message)
             }
-            val normalized: String = value.normalizeInteger()
-            val delegate = PlatformInteger(normalized)
-            return Integer(delegate)
+            return integer
         }
 
         /**
@@ -265,30 +273,198 @@ public class Integer private constructor(
          * @since 5.2.0
          */
         @JvmSynthetic
-        public fun parseOrNull(value: String): Integer? {
-            if (!value.isInteger()) return null
-            val normalized: String = value.normalizeInteger()
-            val delegate = PlatformInteger(normalized)
-            return Integer(delegate)
+        public fun parseOrNull(value: String): Integer? =
+            this.scan(value, startIndex = 0, endIndex = value.length)
+
+        /**
+         * Returns an [Integer] representing the number described by the
+         * characters of [value] from [startIndex] (inclusive) to [endIndex]
+         * (exclusive), or throws [NumberFormatException] if these characters
+         * don't represent an integer.
+         *
+         * This function accepts the same representations as the [parse]
+         * function taking a [String], and reads the characters in place.
+         * As a result, parsing a field of a larger buffer doesn't need to copy
+         * it into a new [String] first.
+         *
+         * This function throws an [IndexOutOfBoundsException] if [startIndex]
+         * is negative, if [endIndex] is greater than the length of [value], or
+         * if [startIndex] is greater than [endIndex].
+         *
+         * <br>
+         * <details>
+         * <summary>
+         *     <b>Calling from Kotlin</b>
+         * </summary>
+         *
+         * Here's an example of calling this function from Kotlin code:
+         *
+         * SAMPLE: org.kotools.types.number.IntegerSample.parsingRange
+         * </details>
+         *
+         * <br>
+         * <details>
+         * <summary>
+         *     <b>Calling from Java</b>
+         * </summary>
+         *
+         * Here's an example of calling this function from Java code:
+         *
+         * SAMPLE: org.kotools.types.number.IntegerJavaSample.parsingRange
+         * </details>
+         * <br>
+         *
+         * See the [parseOrNull] function for returning `null` instead of
+         * throwing an exception in case of invalid characters.
+         *
+         * @since 5.3.0
+         */
+        @JvmStatic
+        public fun parse(
+            value: CharSequence,
+            startIndex: Int,
+            endIndex: Int
+        ): Integer {
+            val integer: Integer? = this.scan(value, startIndex, endIndex)
+            if (integer == null) {
+                val text: String = value.substring(startIndex, endIndex)
+                val message: String =
+                    errorMessage("Invalid integer representation", text)
+                throw NumberFormatException(message)
+            }
+            return integer
         }
 
-        private fun String.isInteger(): Boolean {
-            val range: CharRange = '0'..'9'
-            return this.removePrefix("+")
-                .removePrefix("-")
-                .ifBlank { return false }
-                .all { it in range }
+        /**
+         * Returns an [Integer] representing the number described by the
+         * characters of [value] from [startIndex] (inclusive) to [endIndex]
+         * (exclusive), or returns `null` if these characters don't represent
+         * an integer.
+         *
+         * This function accepts the same representations as the [parseOrNull]
+         * function taking a [String], and reads the characters in place.
+         * As a result, parsing a field of a larger buffer doesn't need to copy
+         * it into a new [String] first.
+         *
+         * This function throws an [IndexOutOfBoundsException] if [startIndex]
+         * is negative, if [endIndex] is greater than the length of [value], or
+         * if [startIndex] is greater than [endIndex].
+         *
+         * <br>
+         * <details>
+         * <summary>
+         *     <b>Calling from Kotlin</b>
+         * </summary>
+         *
+         * Here's an example of calling this function from Kotlin code:
+         *
+         * SAMPLE: org.kotools.types.number.IntegerSample.parsingRange
+         * </details>
+         * <br>
+         *
+         * This function is hidden from Java, because nullability is not
+         * explicit in its type system.
+         *
+         * See the [parse] function for throwing an exception instead of
+         * returning `null` in case of invalid characters.
+         *
+         * @since 5.3.0
+         */
+        @JvmSynthetic
+        public fun parseOrNull(
+            value: CharSequence,
+            startIndex: Int,
+            endIndex: Int
+        ): Integer? = this.scan(value, startIndex, endIndex)
+
+        /**
+         * Validates and interprets the characters of [value] from [startIndex]
+         * to [endIndex] in a single pass, or returns `null` if they don't
+         * represent an integer.
+         *
+         * The character at [skippedIndex], if any, is ignored. This allows
+         * [Decimal] to read its unscaled value around its decimal point.
+         *
+         * Values in the [Long] range are accumulated without building any
+         * intermediate [String].
+         */
+        @JvmSynthetic
+        internal fun scan(
+            value: CharSequence,
+            startIndex: Int,
+            endIndex: Int,
+            skippedIndex: Int = -1
+        ): Integer? {
+            value.checkRange(startIndex, endIndex)
+            if (startIndex == endIndex) return null
+            val isNegative: Boolean = value[startIndex] == '-'
+            val digitsStart: Int =
+                if (isNegative || value[startIndex] == '+') startIndex + 1
+                else startIndex
+            if (digitsStart == endIndex) return null
+            // Digits are accumulated negatively for reaching Long.MIN_VALUE.
+            val limit: Long =
+                if (isNegative) Long.MIN_VALUE else -Long.MAX_VALUE
+            val limitBeforeMultiplication: Long = limit / 10
+            var accumulator = 0L
+            var isInLongRange = true
+            var significantDigitsStart: Int = -1
+            var index: Int = digitsStart
+            while (index < endIndex) {
+                if (index == skippedIndex) {
+                    index++
+                    continue
+                }
+                val digit: Int = value[index] - '0'
+                if (digit < 0 || digit > 9) return null
+                if (significantDigitsStart == -1 && digit != 0)
+                    significantDigitsStart = index
+                if (isInLongRange) {
+                    if (accumulator < limitBeforeMultiplication)
+                        isInLongRange = false
+                    else {
+                        accumulator *= 10
+                        if (accumulator < limit + digit) isInLongRange = false
+                        else accumulator -= digit
+                    }
+                }
+                index++
+            }
+            if (isInLongRange) {
+                val number: Long =
+                    if (isNegative) accumulator else -accumulator
+                return this.fromLong(number)
+            }
+            val isCanonical: Boolean = value is String
+                    && startIndex == 0
+                    && endIndex == value.length
+                    && value[0] != '+'
+                    && significantDigitsStart == digitsStart
+                    && skippedIndex == -1
+            if (isCanonical) {
+                val delegate = PlatformInteger(value.toString())
+                return Integer(delegate)
+            }
+            val builder = StringBuilder(endIndex - significantDigitsStart + 1)
+            if (isNegative) builder.append('-')
+            if (skippedIndex < significantDigitsStart)
+                builder.appendRange(value, significantDigitsStart, endIndex)
+            else builder
+                .appendRange(value, significantDigitsStart, skippedIndex)
+                .appendRange(value, skippedIndex + 1, endIndex)
+            val delegate = PlatformInteger(builder.toString())
+            return Integer(delegate)
         }
 
-        private fun String.normalizeInteger(): String {
-            val sign: String = this.firstOrNull { it == '-' }
-                ?.toString()
-                ?: ""
-            val digits: String = this.removePrefix("+")
-                .removePrefix("-")
-                .trimStart('0')
-                .ifEmpty { return "0" }
-            return "$sign$digits"
+        private fun cachedOrNull(value: Long): Integer? {
+            if (value < CACHE_LOW || value > CACHE_HIGH) return null
+            val index: Int = (value - CACHE_LOW).toInt()
+            val cached: Integer? = this.cache[index]
+            if (cached != null) return cached
+            val delegate = PlatformInteger(value)
+            val integer = Integer(delegate)
+            this.cache[index] = integer
+            return integer
         }
     }
 
@@ -626,15 +802,12 @@ public class Integer private constructor(
      * @since 5.2.0
      */
     public fun toLong(): Long {
-        val min: Integer = fromLong(Long.MIN_VALUE)
-        val max: Integer = fromLong(Long.MAX_VALUE)
-        if (this < min || this > max) {
+        if (!this.isInLongRange()) {
             val message: String =
                 errorMessage("Integer out of range for Long", this)
             throw ArithmeticException(message)
         }
-        return this.toString()
-            .toLong()
+        return this.delegate.toLong()
     }
 
     /**
@@ -663,13 +836,15 @@ public class Integer private constructor(
      * @since 5.2.0
      */
     @JvmSynthetic
-    public fun toLongOrNull(): Long? {
-        val min: Integer = fromLong(Long.MIN_VALUE)
-        val max: Integer = fromLong(Long.MAX_VALUE)
-        return if (this < min || this > max) null
-        else this.toString()
-            .toLong()
-    }
+    public fun toLongOrNull(): Long? =
+        if (this.isInLongRange()) this.delegate.toLong()
+        else null
+
+    /**
+     * Returns `true` if this integer is in the [Long] range, or returns
+     * `false` otherwise.
+     */
+    internal fun isInLongRange(): Boolean = this.delegate.isInLongRange()
 
     /**
      * Returns the decimal string representation of this integer.
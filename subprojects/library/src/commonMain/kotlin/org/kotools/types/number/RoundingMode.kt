@@ -0,0 +1,83 @@
+package org.kotools.types.number
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+
+/**
+ * Specifies how to discard the digits that don't fit in the result of a
+ * [Decimal] division.
+ *
+ * The examples below show the result of rounding to zero fractional digits.
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Calling from Kotlin</b>
+ * </summary>
+ *
+ * Here's an example of calling this type from Kotlin code:
+ *
+ * SAMPLE: org.kotools.types.number.DecimalSample.divWithScale
+ * </details>
+ *
+ * <br>
+ * <details>
+ * <summary>
+ *     <b>Calling from Java</b>
+ * </summary>
+ *
+ * Here's an example of calling this type from Java code:
+ *
+ * SAMPLE: org.kotools.types.number.DecimalJavaSample.divWithScale
+ * </details>
+ *
+ * @since 5.3.0
+ */
+@ExperimentalKotoolsTypesApi
+public enum class RoundingMode {
+    /**
+     * Rounds away from zero (e.g., `2.1` -> `3` and `-2.1` -> `-3`).
+     */
+    Up,
+
+    /**
+     * Rounds towards zero (e.g., `2.9` -> `2` and `-2.9` -> `-2`).
+     */
+    Down,
+
+    /**
+     * Rounds towards positive infinity (e.g., `2.1` -> `3` and `-2.9` ->
+     * `-2`).
+     */
+    Ceiling,
+
+    /**
+     * Rounds towards negative infinity (e.g., `2.9` -> `2` and `-2.1` ->
+     * `-3`).
+     */
+    Floor,
+
+    /**
+     * Rounds towards the nearest neighbor, or away from zero if both
+     * neighbors are equidistant (e.g., `2.5` -> `3` and `-2.5` -> `-3`).
+     */
+    HalfUp,
+
+    /**
+     * Rounds towards the nearest neighbor, or towards zero if both neighbors
+     * are equidistant (e.g., `2.5` -> `2` and `-2.5` -> `-2`).
+     */
+    HalfDown,
+
+    /**
+     * Rounds towards the nearest neighbor, or towards the even neighbor if
+     * both neighbors are equidistant (e.g., `2.5` -> `2` and `3.5` -> `4`).
+     * Also known as _banker's rounding_.
+     */
+    HalfEven,
+
+    /**
+     * Asserts that the result is exact, and throws an [ArithmeticException]
+     * if rounding is necessary (e.g., `2.0` -> `2` and `2.5` -> exception).
+     */
+    Unnecessary
+}
@@ -35,6 +35,16 @@ class NotEmptyCollectionTest {
         result.toInt() shouldEqual expectedCollection.size
     }
 
+    @Test
+    fun size_should_pass_with_a_large_collection() {
+        val elements: List<Int> = List(100_000) { it }
+        val collections: List<NotEmptyCollection<Int>> = listOf(
+            elements.toNotEmptyList().getOrThrow(),
+            elements.toNotEmptySet().getOrThrow()
+        )
+        collections.forEach { it.size.toInt() shouldEqual elements.size }
+    }
+
     @Test
     fun sizeOrZero_should_pass_with_a_collection_other_than_null() {
         val collection: NotEmptyCollection<Int> = notEmptyCollectionOfRandomInts
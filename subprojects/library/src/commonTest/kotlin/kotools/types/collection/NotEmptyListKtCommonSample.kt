@@ -1,5 +1,6 @@
 package kotools.types.collection
 
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import kotlin.test.Test
 import kotlin.test.assertContentEquals
 import kotlin.test.assertEquals
@@ -32,4 +33,22 @@ internal class NotEmptyListKtCommonSample {
         original.clear()
         assertNotEquals(illegal = "$original", actual = "$notEmptyList")
     }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun append() {
+        val integers: NotEmptyList<Int> = notEmptyListOf(1, 2)
+        val result: NotEmptyList<Int> = integers.append(3)
+        assertEquals(expected = "[1, 2, 3]", actual = "$result")
+        assertEquals(expected = "[1, 2]", actual = "$integers")
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun prepend() {
+        val integers: NotEmptyList<Int> = notEmptyListOf(2, 3)
+        val result: NotEmptyList<Int> = integers.prepend(1)
+        assertEquals(expected = "[1, 2, 3]", actual = "$result")
+        assertEquals(expected = "[2, 3]", actual = "$integers")
+    }
 }
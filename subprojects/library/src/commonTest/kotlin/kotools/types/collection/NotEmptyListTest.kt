@@ -16,6 +16,7 @@ import kotools.types.shouldEqual
 import kotools.types.shouldFailWithIllegalArgumentException
 import kotools.types.shouldHaveAMessage
 import kotools.types.shouldNotEqual
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
 import kotlin.random.Random
 import kotlin.test.Test
@@ -67,6 +68,29 @@ class NotEmptyListTest {
             .toList() contentShouldEqual elements.toList().drop(1)
     }
 
+    @Test
+    fun tail_of_tail_should_return_all_elements_except_the_first_two() {
+        val elements: NotEmptyList<Int> = notEmptyListOf(1, 2, 3, 4)
+        val result: NotEmptyList<Int>? = elements.tail?.tail
+        result shouldEqual notEmptyListOf(3, 4)
+        result.shouldBeNotNull()
+            .toString() shouldEqual "[3, 4]"
+    }
+
+    @Test
+    fun head_and_tail_traversal_should_visit_all_elements() {
+        val elements: List<Int> = List(100_000) { it }
+        var current: NotEmptyList<Int>? = elements.toNotEmptyList()
+            .getOrThrow()
+        var count = 0
+        while (current != null) {
+            current.head shouldEqual count
+            count++
+            current = current.tail
+        }
+        count shouldEqual elements.size
+    }
+
     @Test
     fun tail_should_return_null_with_a_singleton_list() {
         val result: NotEmptyList<Int>? = notEmptyListOf(Random.nextInt()).tail
@@ -117,6 +141,60 @@ class NotEmptyListTest {
             .getOrThrow()
         "$elements" shouldEqual "${elements.toList()}"
     }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun append_should_add_the_element_at_the_end_of_this_list() {
+        val elements: NotEmptyList<Int> = notEmptyListOf(1, 2)
+        val result: NotEmptyList<Int> = elements.append(3)
+        result shouldEqual notEmptyListOf(1, 2, 3)
+        result.size.toInt() shouldEqual 3
+        elements shouldEqual notEmptyListOf(1, 2)
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun prepend_should_add_the_element_at_the_start_of_this_list() {
+        val elements: NotEmptyList<Int> = notEmptyListOf(2, 3)
+        val result: NotEmptyList<Int> = elements.prepend(1)
+        result shouldEqual notEmptyListOf(1, 2, 3)
+        result.head shouldEqual 1
+        elements shouldEqual notEmptyListOf(2, 3)
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun append_and_prepend_should_preserve_the_order_of_many_elements() {
+        var result: NotEmptyList<Int> = notEmptyListOf(0)
+        val expected: ArrayDeque<Int> = ArrayDeque(listOf(0))
+        repeat(100_000) {
+            val element: Int = Random.nextInt()
+            if (Random.nextBoolean()) {
+                result = result.append(element)
+                expected.addLast(element)
+            } else {
+                result = result.prepend(element)
+                expected.addFirst(element)
+            }
+        }
+        result.toList() contentShouldEqual expected
+        result.tail.shouldBeNotNull()
+            .toList() contentShouldEqual expected.drop(1)
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun append_should_not_impact_other_lists_sharing_the_same_elements() {
+        val elements: NotEmptyList<Int> = List(100) { it }
+            .toNotEmptyList()
+            .getOrThrow()
+            .append(100)
+        val x: NotEmptyList<Int> = elements.append(-1)
+        val y: NotEmptyList<Int> = elements.append(-2)
+        elements.toList() contentShouldEqual List(101) { it }
+        x.toList() contentShouldEqual List(101) { it } + -1
+        y.toList() contentShouldEqual List(101) { it } + -2
+    }
 }
 
 class NotEmptyListIntegrationTest {
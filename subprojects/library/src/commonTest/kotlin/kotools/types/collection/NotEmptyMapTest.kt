@@ -36,6 +36,14 @@ class NotEmptyMapTest {
         result.entries.toSet() contentShouldEqual expected.entries
     }
 
+    @Test
+    fun notEmptyMapOf_should_keep_the_last_value_of_a_duplicated_key() {
+        val result: NotEmptyMap<Char, Int> =
+            notEmptyMapOf('a' to 1, 'b' to 2, 'a' to 3)
+        val expected: Map<Char, Int> = mapOf('a' to 3, 'b' to 2)
+        result.toMap() shouldEqual expected
+    }
+
     @Test
     fun map_toNotEmptyMap_should_pass_with_a_not_empty_Map() {
         val map: Map<Char, Int> = mapOf('a' to Random.nextInt())
@@ -72,6 +80,36 @@ class NotEmptyMapTest {
         result.shouldBeNotNull() shouldEqual expected
     }
 
+    @Test
+    fun tail_of_tail_should_only_contain_the_remaining_entries() {
+        val map: NotEmptyMap<Char, Int> =
+            notEmptyMapOf('a' to 1, 'b' to 2, 'c' to 3, 'd' to 4)
+        val result: Map<Char, Int> = map.tail?.tail
+            .shouldBeNotNull()
+            .toMap()
+        result shouldEqual mapOf('c' to 3, 'd' to 4)
+        result['a'].shouldBeNull()
+        result['c'] shouldEqual 3
+        result.containsKey('b') shouldEqual false
+        result.containsKey('d') shouldEqual true
+        "$result" shouldEqual "{c=3, d=4}"
+    }
+
+    @Test
+    fun head_and_tail_traversal_should_visit_all_entries() {
+        val entries: Map<Int, Int> = List(10_000) { it }
+            .associateWith { it }
+        var current: NotEmptyMap<Int, Int>? = entries.toNotEmptyMap()
+            .getOrThrow()
+        var count = 0
+        while (current != null) {
+            current.head shouldEqual (count to count)
+            count++
+            current = current.tail
+        }
+        count shouldEqual entries.size
+    }
+
     @Test
     fun tail_should_return_null_with_a_singleton_map() {
         val map: NotEmptyMap<Char, Int> = notEmptyMapOf('a' to 1)
@@ -115,6 +153,20 @@ class NotEmptyMapTest {
         result.toList() contentShouldEqual expected
     }
 
+    @Test
+    fun values_should_behave_like_a_list_of_the_values_of_this_map() {
+        val map: NotEmptyMap<Char, Int> =
+            notEmptyMapOf('a' to 1, 'b' to 2, 'c' to 3)
+        val result: NotEmptyList<Int> = map.values
+        result.head shouldEqual 1
+        result.tail?.toList() shouldEqual listOf(2, 3)
+        result.toList()[2] shouldEqual 3
+        result.toList().contains(2) shouldEqual true
+        result.toList().contains(4) shouldEqual false
+        "$result" shouldEqual "[1, 2, 3]"
+        map.tail?.values?.toList() shouldEqual listOf(2, 3)
+    }
+
     @Test
     fun size_should_return_the_size_of_this_map_as_a_StrictlyPositiveInt() {
         val notEmptyMap: NotEmptyMap<String, Int> = notEmptyMapOf(
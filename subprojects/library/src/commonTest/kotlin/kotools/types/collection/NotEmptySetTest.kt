@@ -71,6 +71,33 @@ class NotEmptySetTest {
             .toSet() contentShouldEqual expected
     }
 
+    @Test
+    fun tail_of_tail_should_only_contain_the_remaining_elements() {
+        val set: NotEmptySet<Char> = notEmptySetOf('a', 'b', 'c', 'd')
+        val result: Set<Char> = set.tail?.tail
+            .shouldBeNotNull()
+            .toSet()
+        result shouldEqual setOf('c', 'd')
+        ('a' in result) shouldEqual false
+        ('d' in result) shouldEqual true
+        "$result" shouldEqual "[c, d]"
+    }
+
+    @Test
+    fun head_and_tail_traversal_should_visit_all_elements() {
+        val elements: Set<Int> = List(10_000) { it }
+            .toSet()
+        var current: NotEmptySet<Int>? = elements.toNotEmptySet()
+            .getOrThrow()
+        var count = 0
+        while (current != null) {
+            current.head shouldEqual count
+            count++
+            current = current.tail
+        }
+        count shouldEqual elements.size
+    }
+
     @Test
     fun tail_should_return_null_with_a_singleton_set() {
         val set: NotEmptySet<Int> = notEmptySetOf(Random.nextInt())
@@ -11,11 +11,14 @@ import kotools.types.internal.ErrorMessage
 import kotools.types.internal.simpleNameOf
 import kotools.types.shouldEqual
 import kotools.types.shouldNotEqual
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
 import kotlin.random.Random
+import kotlin.random.nextInt
 import kotlin.test.Test
 import kotlin.test.assertEquals
 import kotlin.test.assertFailsWith
+import kotlin.test.assertNull
 
 class NonZeroIntCompanionTest {
     @Test
@@ -77,6 +80,23 @@ class NonZeroIntTest {
         val expected: Int = x % y.toInt()
         assertEquals(expected, actual)
     }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun toNonZeroIntOrNull_should_pass_with_a_Number_other_than_zero() {
+        val number: Number = Random.nextInt(1..Int.MAX_VALUE)
+            .let { if (Random.nextBoolean()) it else -it }
+        val result: NonZeroInt? = number.toNonZeroIntOrNull()
+        result?.toInt() shouldEqual number
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun toNonZeroIntOrNull_should_return_null_with_zero() {
+        val number: Number = 0
+        val result: NonZeroInt? = number.toNonZeroIntOrNull()
+        assertNull(result)
+    }
 }
 
 class NonZeroIntSerializerTest {
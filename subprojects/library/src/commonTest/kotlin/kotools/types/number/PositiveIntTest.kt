@@ -14,11 +14,14 @@ import kotools.types.internal.simpleNameOf
 import kotools.types.internal.unexpectedCreationFailure
 import kotools.types.shouldEqual
 import kotools.types.shouldNotEqual
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
 import kotlin.random.Random
+import kotlin.random.nextInt
 import kotlin.test.Test
 import kotlin.test.assertEquals
 import kotlin.test.assertFailsWith
+import kotlin.test.assertNull
 
 class PositiveIntCompanionTest {
     @Test
@@ -92,6 +95,22 @@ class PositiveIntTest {
             .toPositiveIntOrFailure()
         assertEquals(expected, actual)
     }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun toPositiveIntOrNull_should_pass_with_a_positive_Number() {
+        val number: Number = Random.nextInt(0..Int.MAX_VALUE)
+        val result: PositiveInt? = number.toPositiveIntOrNull()
+        result?.toInt() shouldEqual number
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun toPositiveIntOrNull_should_return_null_with_a_strictly_negative_Number() {
+        val number: Number = Random.nextInt(Int.MIN_VALUE..-1)
+        val result: PositiveInt? = number.toPositiveIntOrNull()
+        assertNull(result)
+    }
 }
 
 class PositiveIntSerializerTest {
@@ -12,11 +12,16 @@ import kotools.types.internal.ErrorMessage
 import kotools.types.internal.shouldBeStrictlyNegative
 import kotools.types.internal.simpleNameOf
 import kotools.types.shouldEqual
+import kotools.types.shouldHaveAMessage
 import kotools.types.shouldNotEqual
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
+import kotlin.random.Random
+import kotlin.random.nextInt
 import kotlin.test.Test
 import kotlin.test.assertEquals
 import kotlin.test.assertFailsWith
+import kotlin.test.assertNull
 
 class StrictlyNegativeIntCompanionTest {
     @Test
@@ -64,6 +69,134 @@ class StrictlyNegativeIntTest {
         val x: StrictlyNegativeInt = StrictlyNegativeInt.random()
         "$x" shouldEqual "${x.toInt()}"
     }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun toStrictlyNegativeIntOrNull_should_pass_with_a_strictly_negative_Number() {
+        val number: Number = Random.nextInt(Int.MIN_VALUE..-1)
+        val result: StrictlyNegativeInt? = number.toStrictlyNegativeIntOrNull()
+        result?.toInt() shouldEqual number
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun toStrictlyNegativeIntOrNull_should_return_null_with_a_positive_Number() {
+        val number: Number = Random.nextInt(0..Int.MAX_VALUE)
+        val result: StrictlyNegativeInt? = number.toStrictlyNegativeIntOrNull()
+        assertNull(result)
+    }
+
+    @Test
+    fun compareTo_should_behave_like_for_the_Int_type() {
+        val x: StrictlyNegativeInt = StrictlyNegativeInt.random()
+        val y: StrictlyNegativeInt = StrictlyNegativeInt.random()
+        val actual: Int = x.compareTo(y)
+        actual shouldEqual x.toInt().compareTo(y.toInt())
+    }
+
+    @Test
+    fun plus_should_behave_like_for_the_Int_type() {
+        val x: StrictlyNegativeInt = StrictlyNegativeInt.random()
+        val y: StrictlyNegativeInt = StrictlyNegativeInt.random()
+        val number: Int = Random.nextInt()
+        x + y shouldEqual x.toInt() + y.toInt()
+        x + number shouldEqual x.toInt() + number
+        number + y shouldEqual number + y.toInt()
+    }
+
+    @Test
+    fun minus_should_behave_like_for_the_Int_type() {
+        val x: StrictlyNegativeInt = StrictlyNegativeInt.random()
+        val y: StrictlyNegativeInt = StrictlyNegativeInt.random()
+        val number: Int = Random.nextInt()
+        x - y shouldEqual x.toInt() - y.toInt()
+        x - number shouldEqual x.toInt() - number
+        number - y shouldEqual number - y.toInt()
+    }
+
+    @Test
+    fun times_should_behave_like_for_the_Int_type() {
+        val x: StrictlyNegativeInt = StrictlyNegativeInt.random()
+        val y: StrictlyNegativeInt = StrictlyNegativeInt.random()
+        val number: Int = Random.nextInt()
+        x * y shouldEqual x.toInt() * y.toInt()
+        x * number shouldEqual x.toInt() * number
+        number * y shouldEqual number * y.toInt()
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun plusExact_should_pass_without_overflow() {
+        val x: StrictlyNegativeInt = (-2).toStrictlyNegativeInt().getOrThrow()
+        val y: StrictlyNegativeInt = (-3).toStrictlyNegativeInt().getOrThrow()
+        val actual: StrictlyNegativeInt = x.plusExact(y)
+        actual.toInt() shouldEqual -5
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun plusExact_should_fail_on_overflow() {
+        val x: StrictlyNegativeInt = StrictlyNegativeInt.min
+        val y: StrictlyNegativeInt = StrictlyNegativeInt.max
+        val exception: ArithmeticException =
+            assertFailsWith { x.plusExact(y) }
+        exception.shouldHaveAMessage()
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun plusSaturating_should_pass_without_overflow() {
+        val x: StrictlyNegativeInt = (-2).toStrictlyNegativeInt().getOrThrow()
+        val y: StrictlyNegativeInt = (-3).toStrictlyNegativeInt().getOrThrow()
+        val actual: StrictlyNegativeInt = x.plusSaturating(y)
+        actual.toInt() shouldEqual -5
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun plusSaturating_should_return_the_minimum_on_overflow() {
+        val x: StrictlyNegativeInt = StrictlyNegativeInt.min
+        val y: StrictlyNegativeInt = StrictlyNegativeInt.max
+        val actual: StrictlyNegativeInt = x.plusSaturating(y)
+        actual shouldEqual StrictlyNegativeInt.min
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun timesExact_should_pass_without_overflow() {
+        val x: StrictlyNegativeInt = (-2).toStrictlyNegativeInt().getOrThrow()
+        val y: StrictlyNegativeInt = (-3).toStrictlyNegativeInt().getOrThrow()
+        val actual: StrictlyPositiveInt = x.timesExact(y)
+        actual.toInt() shouldEqual 6
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun timesExact_should_fail_on_overflow() {
+        val x: StrictlyNegativeInt = StrictlyNegativeInt.min
+        val y: StrictlyNegativeInt = (-2).toStrictlyNegativeInt().getOrThrow()
+        val exception: ArithmeticException =
+            assertFailsWith { x.timesExact(y) }
+        exception.shouldHaveAMessage()
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun timesSaturating_should_pass_without_overflow() {
+        val x: StrictlyNegativeInt = (-2).toStrictlyNegativeInt().getOrThrow()
+        val y: StrictlyNegativeInt = (-3).toStrictlyNegativeInt().getOrThrow()
+        val actual: StrictlyPositiveInt = x.timesSaturating(y)
+        actual.toInt() shouldEqual 6
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun timesSaturating_should_return_the_maximum_on_overflow() {
+        val x: StrictlyNegativeInt = StrictlyNegativeInt.min
+        val y: StrictlyNegativeInt = (-2).toStrictlyNegativeInt().getOrThrow()
+        val actual: StrictlyPositiveInt = x.timesSaturating(y)
+        actual shouldEqual StrictlyPositiveInt.max
+    }
 }
 
 class StrictlyNegativeIntSerializerTest {
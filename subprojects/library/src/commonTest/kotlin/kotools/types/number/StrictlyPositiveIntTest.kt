@@ -13,13 +13,16 @@ import kotools.types.internal.shouldBeStrictlyPositive
 import kotools.types.internal.simpleNameOf
 import kotools.types.internal.unexpectedCreationFailure
 import kotools.types.shouldEqual
+import kotools.types.shouldHaveAMessage
 import kotools.types.shouldNotEqual
+import org.kotools.types.ExperimentalKotoolsTypesApi
 import org.kotools.types.internal.InternalKotoolsTypesApi
 import kotlin.random.Random
 import kotlin.random.nextInt
 import kotlin.test.Test
 import kotlin.test.assertEquals
 import kotlin.test.assertFailsWith
+import kotlin.test.assertNull
 
 class StrictlyPositiveIntCompanionTest {
     @Test
@@ -68,6 +71,134 @@ class StrictlyPositiveIntTest {
     fun toString_should_behave_like_an_Int(): Unit = StrictlyPositiveInt
         .random()
         .run { "$this" shouldEqual "${toInt()}" }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun toStrictlyPositiveIntOrNull_should_pass_with_a_strictly_positive_Number() {
+        val number: Number = Random.nextInt(1..Int.MAX_VALUE)
+        val result: StrictlyPositiveInt? = number.toStrictlyPositiveIntOrNull()
+        result?.toInt() shouldEqual number
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun toStrictlyPositiveIntOrNull_should_return_null_with_a_negative_Number() {
+        val number: Number = Random.nextInt(Int.MIN_VALUE..0)
+        val result: StrictlyPositiveInt? = number.toStrictlyPositiveIntOrNull()
+        assertNull(result)
+    }
+
+    @Test
+    fun compareTo_should_behave_like_for_the_Int_type() {
+        val x: StrictlyPositiveInt = StrictlyPositiveInt.random()
+        val y: StrictlyPositiveInt = StrictlyPositiveInt.random()
+        val actual: Int = x.compareTo(y)
+        actual shouldEqual x.toInt().compareTo(y.toInt())
+    }
+
+    @Test
+    fun plus_should_behave_like_for_the_Int_type() {
+        val x: StrictlyPositiveInt = StrictlyPositiveInt.random()
+        val y: StrictlyPositiveInt = StrictlyPositiveInt.random()
+        val number: Int = Random.nextInt()
+        x + y shouldEqual x.toInt() + y.toInt()
+        x + number shouldEqual x.toInt() + number
+        number + y shouldEqual number + y.toInt()
+    }
+
+    @Test
+    fun minus_should_behave_like_for_the_Int_type() {
+        val x: StrictlyPositiveInt = StrictlyPositiveInt.random()
+        val y: StrictlyPositiveInt = StrictlyPositiveInt.random()
+        val number: Int = Random.nextInt()
+        x - y shouldEqual x.toInt() - y.toInt()
+        x - number shouldEqual x.toInt() - number
+        number - y shouldEqual number - y.toInt()
+    }
+
+    @Test
+    fun times_should_behave_like_for_the_Int_type() {
+        val x: StrictlyPositiveInt = StrictlyPositiveInt.random()
+        val y: StrictlyPositiveInt = StrictlyPositiveInt.random()
+        val number: Int = Random.nextInt()
+        x * y shouldEqual x.toInt() * y.toInt()
+        x * number shouldEqual x.toInt() * number
+        number * y shouldEqual number * y.toInt()
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun plusExact_should_pass_without_overflow() {
+        val x: StrictlyPositiveInt = 2.toStrictlyPositiveInt().getOrThrow()
+        val y: StrictlyPositiveInt = 3.toStrictlyPositiveInt().getOrThrow()
+        val actual: StrictlyPositiveInt = x.plusExact(y)
+        actual.toInt() shouldEqual 5
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun plusExact_should_fail_on_overflow() {
+        val x: StrictlyPositiveInt = StrictlyPositiveInt.max
+        val y: StrictlyPositiveInt = StrictlyPositiveInt.min
+        val exception: ArithmeticException =
+            assertFailsWith { x.plusExact(y) }
+        exception.shouldHaveAMessage()
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun plusSaturating_should_pass_without_overflow() {
+        val x: StrictlyPositiveInt = 2.toStrictlyPositiveInt().getOrThrow()
+        val y: StrictlyPositiveInt = 3.toStrictlyPositiveInt().getOrThrow()
+        val actual: StrictlyPositiveInt = x.plusSaturating(y)
+        actual.toInt() shouldEqual 5
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun plusSaturating_should_return_the_maximum_on_overflow() {
+        val x: StrictlyPositiveInt = StrictlyPositiveInt.max
+        val y: StrictlyPositiveInt = StrictlyPositiveInt.min
+        val actual: StrictlyPositiveInt = x.plusSaturating(y)
+        actual shouldEqual StrictlyPositiveInt.max
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun timesExact_should_pass_without_overflow() {
+        val x: StrictlyPositiveInt = 2.toStrictlyPositiveInt().getOrThrow()
+        val y: StrictlyPositiveInt = 3.toStrictlyPositiveInt().getOrThrow()
+        val actual: StrictlyPositiveInt = x.timesExact(y)
+        actual.toInt() shouldEqual 6
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun timesExact_should_fail_on_overflow() {
+        val x: StrictlyPositiveInt = StrictlyPositiveInt.max
+        val y: StrictlyPositiveInt = 2.toStrictlyPositiveInt().getOrThrow()
+        val exception: ArithmeticException =
+            assertFailsWith { x.timesExact(y) }
+        exception.shouldHaveAMessage()
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun timesSaturating_should_pass_without_overflow() {
+        val x: StrictlyPositiveInt = 2.toStrictlyPositiveInt().getOrThrow()
+        val y: StrictlyPositiveInt = 3.toStrictlyPositiveInt().getOrThrow()
+        val actual: StrictlyPositiveInt = x.timesSaturating(y)
+        actual.toInt() shouldEqual 6
+    }
+
+    @OptIn(ExperimentalKotoolsTypesApi::class)
+    @Test
+    fun timesSaturating_should_return_the_maximum_on_overflow() {
+        val x: StrictlyPositiveInt = StrictlyPositiveInt.max
+        val y: StrictlyPositiveInt = 2.toStrictlyPositiveInt().getOrThrow()
+        val actual: StrictlyPositiveInt = x.timesSaturating(y)
+        actual shouldEqual StrictlyPositiveInt.max
+    }
 }
 
 class StrictlyPositiveIntSerializerTest {
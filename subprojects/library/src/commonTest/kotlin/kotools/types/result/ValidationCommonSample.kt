@@ -0,0 +1,94 @@
+package kotools.types.result
+
+import kotools.types.number.StrictlyPositiveInt
+import kotools.types.text.NotBlankString
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertIs
+import kotlin.test.assertNull
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+internal class ValidationCommonSample {
+    private data class User(
+        val name: NotBlankString,
+        val age: StrictlyPositiveInt
+    )
+
+    @Test
+    fun validationContext() {
+        val validation: Validation<StrictlyPositiveInt> = validationOf {
+            val name: NotBlankString? = " ".toNotBlankString()
+            assertNull(name)
+            val age: StrictlyPositiveInt? = 42.toStrictlyPositiveInt()
+            assertNull(age) // not validated after the first failure
+            age
+        }
+        val invalid: Validation.Invalid = assertIs(validation)
+        assertEquals(expected = 1, invalid.errors.size.toInt())
+    }
+
+    @Test
+    fun reject() {
+        val input = 70000
+        val validation: Validation<StrictlyPositiveInt> = validationOf {
+            if (input > 65535)
+                reject("Port should be less than 65536 (tried with $input).")
+            else input.toStrictlyPositiveInt()
+        }
+        val invalid: Validation.Invalid = assertIs(validation)
+        val expected = "Port should be less than 65536 (tried with 70000)."
+        assertEquals(expected, invalid.message)
+    }
+
+    @Test
+    fun validationOf() {
+        val name = "John"
+        val age = 42
+        val validation: Validation<User> = validationOf {
+            val validName: NotBlankString = name.toNotBlankString()
+                ?: return@validationOf null
+            val validAge: StrictlyPositiveInt = age.toStrictlyPositiveInt()
+                ?: return@validationOf null
+            User(validName, validAge)
+        }
+        val user: User? = validation.getOrNull()
+        assertEquals(expected = "John", actual = "${user?.name}")
+        assertEquals(expected = 42, actual = user?.age?.toInt())
+    }
+
+    @Test
+    fun validationOfAll() {
+        val name = " "
+        val age = -1
+        val validation: Validation<User> = validationOfAll {
+            val validName: NotBlankString? = name.toNotBlankString()
+            val validAge: StrictlyPositiveInt? = age.toStrictlyPositiveInt()
+            if (validName == null || validAge == null) null
+            else User(validName, validAge)
+        }
+        val invalid: Validation.Invalid = assertIs(validation)
+        assertEquals(expected = 2, invalid.errors.size.toInt())
+    }
+
+    @Test
+    fun valid() {
+        val validation: Validation<StrictlyPositiveInt> =
+            validationOf { 42.toStrictlyPositiveInt() }
+        val valid: Validation.Valid<StrictlyPositiveInt> = assertIs(validation)
+        assertEquals(expected = 42, actual = valid.value.toInt())
+        assertEquals(expected = "Valid(42)", actual = "$valid")
+    }
+
+    @Test
+    fun invalid() {
+        val validation: Validation<StrictlyPositiveInt> = validationOf {
+            reject("First failure.")
+        }
+        val invalid: Validation.Invalid = assertIs(validation)
+        assertNull(invalid.getOrNull())
+        assertEquals(expected = "First failure.", actual = invalid.message)
+        val expected = "Invalid([First failure.])"
+        assertEquals(expected, actual = "$invalid")
+    }
+}
@@ -0,0 +1,311 @@
+package kotools.types.result
+
+import kotools.types.collection.NotEmptyList
+import kotools.types.collection.NotEmptyMap
+import kotools.types.collection.NotEmptySet
+import kotools.types.collection.notEmptyListOf
+import kotools.types.contentShouldEqual
+import kotools.types.internal.ErrorMessage
+import kotools.types.internal.shouldBeStrictlyPositive
+import kotools.types.number.NegativeInt
+import kotools.types.number.NonZeroInt
+import kotools.types.number.PositiveInt
+import kotools.types.number.StrictlyNegativeInt
+import kotools.types.number.StrictlyPositiveInt
+import kotools.types.number.ZeroInt
+import kotools.types.shouldEqual
+import kotools.types.text.NotBlankString
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import kotlin.random.Random
+import kotlin.test.Test
+import kotlin.test.assertFailsWith
+import kotlin.test.assertIs
+import kotlin.test.assertNull
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+class ValidationContextTest {
+    @Test
+    fun number_toNonZeroInt_should_pass_with_an_Int_other_than_zero() {
+        val value: Number = NonZeroInt.random()
+            .toInt()
+        val validation: Validation<NonZeroInt> =
+            validationOf { value.toNonZeroInt() }
+        assertIs<Validation.Valid<NonZeroInt>>(validation)
+            .value
+            .toInt() shouldEqual value
+    }
+
+    @Test
+    fun number_toNonZeroInt_should_fail_with_an_Int_that_equals_zero() {
+        val value: Number = ZeroInt.toInt()
+        val validation: Validation<NonZeroInt> =
+            validationOf { value.toNonZeroInt() }
+        val expected: String = "${ErrorMessage.zeroNumber}"
+        assertIs<Validation.Invalid>(validation).message shouldEqual expected
+    }
+
+    @Test
+    fun number_toPositiveInt_should_pass_with_a_positive_Int() {
+        val value: Number = PositiveInt.random()
+            .toInt()
+        val validation: Validation<PositiveInt> =
+            validationOf { value.toPositiveInt() }
+        validation.getOrNull()
+            ?.toInt() shouldEqual value
+    }
+
+    @Test
+    fun number_toPositiveInt_should_fail_with_a_strictly_negative_Int() {
+        val value: Number = StrictlyNegativeInt.random()
+            .toInt()
+        val validation: Validation<PositiveInt> =
+            validationOf { value.toPositiveInt() }
+        assertIs<Validation.Invalid>(validation)
+    }
+
+    @Test
+    fun number_toNegativeInt_should_pass_with_a_negative_Int() {
+        val value: Number = NegativeInt.random()
+            .toInt()
+        val validation: Validation<NegativeInt> =
+            validationOf { value.toNegativeInt() }
+        validation.getOrNull()
+            ?.toInt() shouldEqual value
+    }
+
+    @Test
+    fun number_toNegativeInt_should_fail_with_a_strictly_positive_Int() {
+        val value: Number = StrictlyPositiveInt.random()
+            .toInt()
+        val validation: Validation<NegativeInt> =
+            validationOf { value.toNegativeInt() }
+        assertIs<Validation.Invalid>(validation)
+    }
+
+    @Test
+    fun number_toStrictlyPositiveInt_should_pass_with_a_strictly_positive_Int() {
+        val value: Number = StrictlyPositiveInt.random()
+            .toInt()
+        val validation: Validation<StrictlyPositiveInt> =
+            validationOf { value.toStrictlyPositiveInt() }
+        validation.getOrNull()
+            ?.toInt() shouldEqual value
+    }
+
+    @Test
+    fun number_toStrictlyPositiveInt_should_fail_with_a_negative_Int() {
+        val value: Int = NegativeInt.random()
+            .toInt()
+        val validation: Validation<StrictlyPositiveInt> =
+            validationOf { value.toStrictlyPositiveInt() }
+        val expected: String = "${value.shouldBeStrictlyPositive()}"
+        assertIs<Validation.Invalid>(validation).message shouldEqual expected
+    }
+
+    @Test
+    fun number_toStrictlyNegativeInt_should_pass_with_a_strictly_negative_Int() {
+        val value: Number = StrictlyNegativeInt.random()
+            .toInt()
+        val validation: Validation<StrictlyNegativeInt> =
+            validationOf { value.toStrictlyNegativeInt() }
+        validation.getOrNull()
+            ?.toInt() shouldEqual value
+    }
+
+    @Test
+    fun number_toStrictlyNegativeInt_should_fail_with_a_positive_Int() {
+        val value: Number = PositiveInt.random()
+            .toInt()
+        val validation: Validation<StrictlyNegativeInt> =
+            validationOf { value.toStrictlyNegativeInt() }
+        assertIs<Validation.Invalid>(validation)
+    }
+
+    @Test
+    fun string_toNotBlankString_should_pass_with_a_not_blank_String() {
+        val value = "hello world"
+        val validation: Validation<NotBlankString> =
+            validationOf { value.toNotBlankString() }
+        validation.getOrNull()
+            ?.toString() shouldEqual value
+    }
+
+    @Test
+    fun string_toNotBlankString_should_fail_with_a_blank_String() {
+        val value = " "
+        val validation: Validation<NotBlankString> =
+            validationOf { value.toNotBlankString() }
+        val expected: String = "${ErrorMessage.blankString}"
+        assertIs<Validation.Invalid>(validation).message shouldEqual expected
+    }
+
+    @Test
+    fun collection_toNotEmptyList_should_pass_with_a_not_empty_Collection() {
+        val collection: Collection<Int> = List(3) { Random.nextInt() }
+        val validation: Validation<NotEmptyList<Int>> =
+            validationOf { collection.toNotEmptyList() }
+        val actual: NotEmptyList<Int> =
+            assertIs<Validation.Valid<NotEmptyList<Int>>>(validation).value
+        actual.toList() contentShouldEqual collection
+    }
+
+    @Test
+    fun collection_toNotEmptyList_should_fail_with_an_empty_Collection() {
+        val collection: Collection<Int> = emptyList()
+        val validation: Validation<NotEmptyList<Int>> =
+            validationOf { collection.toNotEmptyList() }
+        assertIs<Validation.Invalid>(validation)
+    }
+
+    @Test
+    fun collection_toNotEmptySet_should_pass_with_a_not_empty_Collection() {
+        val collection: Collection<Int> = setOf(1, 2, 3)
+        val validation: Validation<NotEmptySet<Int>> =
+            validationOf { collection.toNotEmptySet() }
+        val actual: NotEmptySet<Int> =
+            assertIs<Validation.Valid<NotEmptySet<Int>>>(validation).value
+        actual.toSet() contentShouldEqual collection
+    }
+
+    @Test
+    fun collection_toNotEmptySet_should_fail_with_an_empty_Collection() {
+        val collection: Collection<Int> = emptySet()
+        val validation: Validation<NotEmptySet<Int>> =
+            validationOf { collection.toNotEmptySet() }
+        assertIs<Validation.Invalid>(validation)
+    }
+
+    @Test
+    fun map_toNotEmptyMap_should_pass_with_a_not_empty_Map() {
+        val map: Map<String, Int> = mapOf("a" to 1, "b" to 2)
+        val validation: Validation<NotEmptyMap<String, Int>> =
+            validationOf { map.toNotEmptyMap() }
+        val actual: NotEmptyMap<String, Int> =
+            assertIs<Validation.Valid<NotEmptyMap<String, Int>>>(validation)
+                .value
+        actual.toMap()
+            .entries contentShouldEqual map.entries
+    }
+
+    @Test
+    fun map_toNotEmptyMap_should_fail_with_an_empty_Map() {
+        val map: Map<String, Int> = emptyMap()
+        val validation: Validation<NotEmptyMap<String, Int>> =
+            validationOf { map.toNotEmptyMap() }
+        val expected: String = "${ErrorMessage.emptyMap}"
+        assertIs<Validation.Invalid>(validation).message shouldEqual expected
+    }
+
+    @Test
+    fun reject_should_fail_with_the_specified_message() {
+        val message = "Custom rule failed."
+        val validation: Validation<Int> = validationOf { reject(message) }
+        assertIs<Validation.Invalid>(validation).message shouldEqual message
+    }
+}
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+class ValidationTest {
+    @Test
+    fun validationOf_should_pass_with_a_not_null_value() {
+        val value: Int = Random.nextInt()
+        val validation: Validation<Int> = validationOf { value }
+        validation shouldEqual Validation.Valid(value)
+    }
+
+    @Test
+    fun validationOf_should_keep_the_first_failure_only() {
+        val validation: Validation<String> = validationOf {
+            val name: NotBlankString? = " ".toNotBlankString()
+            val age: StrictlyPositiveInt? = 0.toStrictlyPositiveInt()
+            if (name == null || age == null) null else "$name ($age)"
+        }
+        val expected: String = "${ErrorMessage.blankString}"
+        assertIs<Validation.Invalid>(validation).message shouldEqual expected
+    }
+
+    @Test
+    fun validationOf_should_skip_conversions_after_the_first_failure() {
+        val validation: Validation<Int> = validationOf {
+            reject("First failure.")
+            val number: StrictlyPositiveInt? = 1.toStrictlyPositiveInt()
+            assertNull(number)
+            number?.toInt()
+        }
+        val expected: Validation<Int> =
+            Validation.Invalid(notEmptyListOf("First failure."))
+        validation shouldEqual expected
+    }
+
+    @Test
+    fun validationOf_should_fail_with_a_value_and_a_rejected_conversion() {
+        val validation: Validation<Int> = validationOf {
+            (-1).toStrictlyPositiveInt()
+            1
+        }
+        assertIs<Validation.Invalid>(validation)
+    }
+
+    @Test
+    fun validationOf_should_fail_with_null_and_no_rejected_conversion() {
+        val exception: IllegalStateException = assertFailsWith {
+            validationOf<Int> { null }
+        }
+        assertIs<String>(exception.message)
+    }
+
+    @Test
+    fun validationOfAll_should_pass_with_a_not_null_value() {
+        val value: Int = Random.nextInt()
+        val validation: Validation<Int> = validationOfAll { value }
+        validation shouldEqual Validation.Valid(value)
+    }
+
+    @Test
+    fun validationOfAll_should_keep_all_failures_in_order() {
+        val validation: Validation<String> = validationOfAll {
+            val name: NotBlankString? = " ".toNotBlankString()
+            val age: StrictlyPositiveInt? = 0.toStrictlyPositiveInt()
+            val tags: NotEmptyList<String>? = emptyList<String>()
+                .toNotEmptyList()
+            if (name == null || age == null || tags == null) null
+            else "$name ($age): $tags"
+        }
+        val expected: List<String> = listOf(
+            "${ErrorMessage.blankString}",
+            "${0.shouldBeStrictlyPositive()}",
+            "${ErrorMessage.emptyCollection}"
+        )
+        assertIs<Validation.Invalid>(validation)
+            .errors
+            .toList() contentShouldEqual expected
+    }
+
+    @Test
+    fun validationOfAll_should_validate_conversions_after_a_failure() {
+        val validation: Validation<Int> = validationOfAll {
+            reject("First failure.")
+            val number: StrictlyPositiveInt? = 1.toStrictlyPositiveInt()
+            number?.toInt() shouldEqual 1
+            number?.toInt()
+        }
+        val expected: Validation<Int> =
+            Validation.Invalid(notEmptyListOf("First failure."))
+        validation shouldEqual expected
+    }
+
+    @Test
+    fun validationOfAll_should_fail_with_null_and_no_rejected_conversion() {
+        val exception: IllegalStateException = assertFailsWith {
+            validationOfAll<Int> { null }
+        }
+        assertIs<String>(exception.message)
+    }
+
+    @Test
+    fun getOrNull_should_return_null_with_an_invalid_validation() {
+        val validation: Validation<Int> =
+            Validation.Invalid(notEmptyListOf("Failure."))
+        assertNull(validation.getOrNull())
+    }
+}
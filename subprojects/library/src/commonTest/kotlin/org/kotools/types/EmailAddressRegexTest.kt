@@ -6,6 +6,9 @@ import kotlin.test.assertEquals
 import kotlin.test.assertFalse
 import kotlin.test.assertNotNull
 import kotlin.test.assertNull
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+import kotlin.test.fail
 
 @OptIn(ExperimentalKotoolsTypesApi::class)
 class EmailAddressRegexTest {
@@ -54,6 +57,76 @@ class EmailAddressRegexTest {
         assertFalse(regex matches text)
     }
 
+    @Test
+    fun matchesIsConsistentAcrossCalls() {
+        val text = "contact@kotools.org"
+        val regex: EmailAddressRegex = EmailAddressRegex.alphabetic()
+        assertTrue(regex matches text)
+        assertTrue(regex matches text)
+        assertFalse(regex matches "invalid-$text")
+    }
+
+    @Test
+    fun matchesWithDefaultRegexBehavesLikeRegexEngine() {
+        val pattern: String = EmailAddressRegex.default()
+            .toString()
+        val engine = Regex(pattern)
+        val texts: List<String> = listOf(
+            "", "a@b.c", "@b.c", "a@.c", "a@b.", "a@bc", "a.b@c", "@@b.c",
+            "a@b@c.d", "a@b.c.", "a@b..", "a@b..c", "a@@.c", "a b@c.d",
+            "a@b.c ", "\ta@b.c", "a@b.c\n", "a@b\r.c", "contact@kotools.org"
+        )
+        texts.forEach {
+            val actual: Boolean = EmailAddressRegex.default() matches it
+            val expected: Boolean = engine matches it
+            assertEquals(expected, actual, message = "Input: \"$it\"")
+        }
+    }
+
+    @Test
+    fun matchesWithRegexHavingDefaultPattern() {
+        val pattern: String = EmailAddressRegex.default()
+            .toString()
+        val regex: EmailAddressRegex = EmailAddressRegex.of(pattern) ?: fail()
+        assertTrue(regex matches "contact@kotools.org")
+        assertFalse(regex matches "contact@kotools")
+    }
+
+    @Test
+    fun matchesWithDefaultRegexFailsWithUnicodeWhitespace() {
+        val regex: EmailAddressRegex = EmailAddressRegex.default()
+        listOf("a\u00A0b@c.d", "a@b\u2028c.d", "a@b.c\u3000").forEach {
+            assertFalse(regex matches it, message = "Input: \"$it\"")
+        }
+    }
+
+    // --------------------------- Companion.default() -------------------------
+
+    @Test
+    fun defaultReturnsSharedInstance() {
+        val expected: EmailAddressRegex = EmailAddressRegex.default()
+        val actual: EmailAddressRegex = EmailAddressRegex.default()
+        assertSame(expected, actual)
+    }
+
+    // ------------------------- Companion.alphabetic() ------------------------
+
+    @Test
+    fun alphabeticReturnsSharedInstance() {
+        val expected: EmailAddressRegex = EmailAddressRegex.alphabetic()
+        val actual: EmailAddressRegex = EmailAddressRegex.alphabetic()
+        assertSame(expected, actual)
+    }
+
+    // ------------------------ Companion.alphanumeric() -----------------------
+
+    @Test
+    fun alphanumericReturnsSharedInstance() {
+        val expected: EmailAddressRegex = EmailAddressRegex.alphanumeric()
+        val actual: EmailAddressRegex = EmailAddressRegex.alphanumeric()
+        assertSame(expected, actual)
+    }
+
     // ------------------------- Companion.of(String) --------------------------
 
     @Test
@@ -61,6 +134,19 @@ class EmailAddressRegexTest {
         assertNotNull(EmailAddressRegex of """^[a-z]+@[a-z]+\.[a-z]+$""")
     }
 
+    @Test
+    fun ofReturnsEqualRegexWithSamePattern() {
+        val pattern = """^[a-z]+@kotools\.org$"""
+        val expected: EmailAddressRegex = EmailAddressRegex of pattern
+            ?: fail()
+        val actual: EmailAddressRegex = EmailAddressRegex of pattern
+            ?: fail()
+        assertEquals(expected, actual)
+        assertEquals(expected.hashCode(), actual.hashCode())
+        assertTrue(actual matches "contact@kotools.org")
+        assertFalse(actual matches "contact@example.com")
+    }
+
     @Test
     fun ofFailsWithPatternNotMatchingDefaultRegex(): Unit =
         assertNull(EmailAddressRegex of """^[a-z]+\.[a-z]+$""")
@@ -0,0 +1,47 @@
+package org.kotools.types.collection
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import kotlin.test.Test
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+class NotEmptyArraySample {
+    @Test
+    fun notEmptyIntArray() {
+        val array: NotEmptyIntArray = NotEmptyIntArray.of(1, 2, 3)
+        check(array.head == 1)
+        check(array.size == 3)
+        check(array[2] == 3)
+        var sum = 0
+        for (element: Int in array) sum += element
+        check(sum == 6)
+        check(array == NotEmptyIntArray.fromIntArray(intArrayOf(1, 2, 3)))
+        check("$array" == "[1, 2, 3]")
+    }
+
+    @Test
+    fun notEmptyLongArray() {
+        val array: NotEmptyLongArray = NotEmptyLongArray.of(1, 2, 3)
+        check(array.head == 1L)
+        check(array.size == 3)
+        check(array[2] == 3L)
+        var sum = 0L
+        for (element: Long in array) sum += element
+        check(sum == 6L)
+        check(array == NotEmptyLongArray.fromLongArray(longArrayOf(1, 2, 3)))
+        check("$array" == "[1, 2, 3]")
+    }
+
+    @Test
+    fun notEmptyDoubleArray() {
+        val array: NotEmptyDoubleArray = NotEmptyDoubleArray.of(1.5, 2.5)
+        check(array.head == 1.5)
+        check(array.size == 2)
+        check(array[1] == 2.5)
+        var sum = 0.0
+        for (element: Double in array) sum += element
+        check(sum == 4.0)
+        val elements: DoubleArray = doubleArrayOf(1.5, 2.5)
+        check(array == NotEmptyDoubleArray.fromDoubleArray(elements))
+        check("$array" == "[1.5, 2.5]")
+    }
+}
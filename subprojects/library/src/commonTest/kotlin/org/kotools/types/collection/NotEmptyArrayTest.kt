@@ -0,0 +1,236 @@
+package org.kotools.types.collection
+
+import org.kotools.types.ExperimentalKotoolsTypesApi
+import org.kotools.types.internal.errorMessage
+import org.kotools.types.repeatTest
+import kotlin.random.Random
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertFalse
+import kotlin.test.assertNotEquals
+
+@OptIn(ExperimentalKotoolsTypesApi::class)
+class NotEmptyArrayTest {
+    private val types: List<ArrayType<*, *>> = listOf(
+        ArrayType(
+            name = "NotEmptyIntArray",
+            random = { Random.nextInt() },
+            of = { head: Int, tail: List<Int> ->
+                NotEmptyIntArray.of(head, *tail.toIntArray())
+            },
+            fromList = { NotEmptyIntArray.fromIntArray(it.toIntArray()) },
+            toList = { it.toIntArray().toList() },
+            head = NotEmptyIntArray::head,
+            size = NotEmptyIntArray::size,
+            get = NotEmptyIntArray::get,
+            iterate = { array: NotEmptyIntArray ->
+                val elements: MutableList<Int> = mutableListOf()
+                for (element: Int in array) elements += element
+                elements
+            }
+        ),
+        ArrayType(
+            name = "NotEmptyLongArray",
+            random = { Random.nextLong() },
+            of = { head: Long, tail: List<Long> ->
+                NotEmptyLongArray.of(head, *tail.toLongArray())
+            },
+            fromList = { NotEmptyLongArray.fromLongArray(it.toLongArray()) },
+            toList = { it.toLongArray().toList() },
+            head = NotEmptyLongArray::head,
+            size = NotEmptyLongArray::size,
+            get = NotEmptyLongArray::get,
+            iterate = { array: NotEmptyLongArray ->
+                val elements: MutableList<Long> = mutableListOf()
+                for (element: Long in array) elements += element
+                elements
+            }
+        ),
+        ArrayType(
+            name = "NotEmptyDoubleArray",
+            random = { Random.nextDouble() },
+            of = { head: Double, tail: List<Double> ->
+                NotEmptyDoubleArray.of(head, *tail.toDoubleArray())
+            },
+            fromList = {
+                NotEmptyDoubleArray.fromDoubleArray(it.toDoubleArray())
+            },
+            toList = { it.toDoubleArray().toList() },
+            head = NotEmptyDoubleArray::head,
+            size = NotEmptyDoubleArray::size,
+            get = NotEmptyDoubleArray::get,
+            iterate = { array: NotEmptyDoubleArray ->
+                val elements: MutableList<Double> = mutableListOf()
+                for (element: Double in array) elements += element
+                elements
+            }
+        )
+    )
+
+    // --------------------------- Factory functions ---------------------------
+
+    @Test
+    fun ofPreservesElementsOrder(): Unit =
+        this.types.forEach(ArrayType<*, *>::checkOf)
+
+    @Test
+    fun fromArrayCopiesElements() {
+        val ints: IntArray = intArrayOf(1, 2)
+        val int: NotEmptyIntArray = NotEmptyIntArray.fromIntArray(ints)
+        val longs: LongArray = longArrayOf(1, 2)
+        val long: NotEmptyLongArray = NotEmptyLongArray.fromLongArray(longs)
+        val doubles: DoubleArray = doubleArrayOf(1.5, 2.5)
+        val double: NotEmptyDoubleArray =
+            NotEmptyDoubleArray.fromDoubleArray(doubles)
+        ints[0] = 3
+        longs[0] = 3
+        doubles[0] = 3.5
+        assertEquals(expected = 1, actual = int.head)
+        assertEquals(expected = 1L, actual = long.head)
+        assertEquals(expected = 1.5, actual = double.head)
+    }
+
+    @Test
+    fun fromArrayFailsWithEmptyArray(): Unit =
+        this.types.forEach(ArrayType<*, *>::checkFromEmptyArray)
+
+    // ------------------------------ Comparisons ------------------------------
+
+    @Test
+    fun structuralEqualityPassesWithSameElements(): Unit =
+        this.types.forEach(ArrayType<*, *>::checkEquality)
+
+    @Test
+    fun structuralEqualityFailsWithDifferentOrder(): Unit =
+        this.types.forEach(ArrayType<*, *>::checkInequality)
+
+    @Test
+    fun structuralEqualityFailsWithOtherTypes() {
+        val int: NotEmptyIntArray = NotEmptyIntArray.of(1, 2, 3)
+        val long: NotEmptyLongArray = NotEmptyLongArray.of(1, 2, 3)
+        assertNotEquals<Any>(int, long)
+        assertNotEquals<Any>(int, int.toIntArray())
+        val other: Any? = null
+        val equality: Boolean = int == other
+        assertFalse(equality, "Structural equality must fail with null.")
+    }
+
+    // ---------------------------- Element access -----------------------------
+
+    @Test
+    fun getReturnsElementsAtEachIndex(): Unit =
+        this.types.forEach(ArrayType<*, *>::checkGet)
+
+    @Test
+    fun getFailsWithIndexOutOfBounds(): Unit =
+        this.types.forEach(ArrayType<*, *>::checkGetOutOfBounds)
+
+    @Test
+    fun iteratorVisitsElementsInOrder(): Unit =
+        this.types.forEach(ArrayType<*, *>::checkIterator)
+
+    // ------------------------------ Conversions ------------------------------
+
+    @Test
+    fun toArrayReturnsCopy() {
+        val int: NotEmptyIntArray = NotEmptyIntArray.of(1, 2)
+        val long: NotEmptyLongArray = NotEmptyLongArray.of(1, 2)
+        val double: NotEmptyDoubleArray = NotEmptyDoubleArray.of(1.5, 2.5)
+        int.toIntArray()[0] = 3
+        long.toLongArray()[0] = 3
+        double.toDoubleArray()[0] = 3.5
+        assertEquals(expected = 1, actual = int.head)
+        assertEquals(expected = 1L, actual = long.head)
+        assertEquals(expected = 1.5, actual = double.head)
+    }
+
+    @Test
+    fun toStringBehavesLikeList(): Unit =
+        this.types.forEach(ArrayType<*, *>::checkToString)
+}
+
+/**
+ * Test logic shared by the non-empty array types of type [A], containing
+ * elements of type [T].
+ */
+private class ArrayType<A : Any, T>(
+    private val name: String,
+    private val random: () -> T,
+    private val of: (T, List<T>) -> A,
+    private val fromList: (List<T>) -> A,
+    private val toList: (A) -> List<T>,
+    private val head: (A) -> T,
+    private val size: (A) -> Int,
+    private val get: (A, Int) -> T,
+    private val iterate: (A) -> List<T>
+) {
+    fun checkOf(): Unit = repeatTest {
+        val head: T = this.random()
+        val tail: List<T> = this.randomList(minSize = 0)
+        val array: A = this.of(head, tail)
+        val message = "$name with head = $head, tail = $tail"
+        assertEquals(listOf(head) + tail, this.toList(array), message)
+    }
+
+    fun checkFromEmptyArray() {
+        val exception: IllegalArgumentException =
+            assertFailsWith(message = this.name) { this.fromList(emptyList()) }
+        val expected: String = errorMessage("Empty array")
+        assertEquals(expected, actual = exception.message)
+    }
+
+    fun checkEquality() {
+        val elements: List<T> = this.randomList(minSize = 1)
+        val x: A = this.of(elements.first(), elements.drop(1))
+        val y: A = this.fromList(elements)
+        assertEquals(x, y, message = this.name)
+        assertEquals(x.hashCode(), y.hashCode(), message = this.name)
+    }
+
+    fun checkInequality() {
+        val head: T = this.random()
+        val last: T = this.random()
+        if (head == last) return
+        val x: A = this.of(head, listOf(last))
+        val y: A = this.of(last, listOf(head))
+        assertNotEquals(x, y, message = this.name)
+    }
+
+    fun checkGet(): Unit = repeatTest {
+        val elements: List<T> = this.randomList(minSize = 1)
+        val array: A = this.fromList(elements)
+        assertEquals(elements.size, this.size(array), message = this.name)
+        assertEquals(elements.first(), this.head(array), message = this.name)
+        elements.forEachIndexed { index: Int, element: T ->
+            assertEquals(element, this.get(array, index), message = this.name)
+        }
+    }
+
+    fun checkGetOutOfBounds() {
+        val array: A = this.fromList(this.randomList(minSize = 1))
+        listOf(-1, this.size(array)).forEach { index: Int ->
+            val exception: IndexOutOfBoundsException =
+                assertFailsWith(message = this.name) { this.get(array, index) }
+            val expected: String = errorMessage("Index out of bounds", index)
+            assertEquals(expected, actual = exception.message)
+        }
+    }
+
+    fun checkIterator(): Unit = repeatTest {
+        val elements: List<T> = this.randomList(minSize = 1)
+        val array: A = this.fromList(elements)
+        assertEquals(elements, this.iterate(array), message = this.name)
+    }
+
+    fun checkToString(): Unit = repeatTest {
+        val elements: List<T> = this.randomList(minSize = 1)
+        val array: A = this.fromList(elements)
+        assertEquals("$elements", actual = "$array", message = this.name)
+    }
+
+    private fun randomList(minSize: Int): List<T> {
+        val size: Int = Random.nextInt(minSize, 10)
+        return List(size) { this.random() }
+    }
+}
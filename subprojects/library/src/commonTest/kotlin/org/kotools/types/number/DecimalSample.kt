@@ -88,6 +88,19 @@ class DecimalSample {
         parsingFailsWith("12a")
     }
 
+    @Test
+    fun parsingRange() {
+        val line = "item=book;price=+012.50;label=ticket"
+
+        val price: Decimal =
+            Decimal.parse(line, startIndex = 16, endIndex = 23)
+        check(price.toString() == "12.5")
+
+        val label: Decimal? =
+            Decimal.parseOrNull(line, startIndex = 30, endIndex = 36)
+        check(label == null)
+    }
+
     // ------------------------------ Comparisons ------------------------------
 
     @Test
@@ -167,6 +180,38 @@ class DecimalSample {
         check(result == expected)
     }
 
+    @Test
+    fun divWithScale() {
+        val x: Decimal = Decimal.fromLong(2)
+        val y: Decimal = Decimal.fromLong(3)
+
+        val up: Decimal = x.div(y, scale = 2, RoundingMode.Up)
+        check(up == Decimal.parse("0.67"))
+
+        val down: Decimal = x.div(y, scale = 2, RoundingMode.Down)
+        check(down == Decimal.parse("0.66"))
+
+        // Trailing fractional zeros are removed from the result:
+        val one: Decimal = Decimal.fromLong(1)
+        val four: Decimal = Decimal.fromLong(4)
+        val quarter: Decimal = one.div(four, 3, RoundingMode.Unnecessary)
+        check(quarter == Decimal.parse("0.25"))
+    }
+
+    @Test
+    fun divWithContext() {
+        val context: DecimalContext = DecimalContext.of(
+            precision = 3,
+            roundingMode = RoundingMode.HalfEven
+        )
+        val x: Decimal = Decimal.parse("2000")
+        val y: Decimal = Decimal.fromLong(3)
+
+        val result: Decimal = x.div(y, context)
+
+        check(result == Decimal.parse("667"))
+    }
+
     // ------------------------------ Conversions ------------------------------
 
     @Test
@@ -145,6 +145,52 @@ class DecimalTest {
         assertNull(safeDecimal, message)
     }
 
+    @Test
+    fun parsingFailsWithSeveralSigns() {
+        listOf("+-1", "-+1", "+-1.5", "--1.5").forEach { value: String ->
+            val message = "Input: $value"
+            assertFailsWith<NumberFormatException>(message) {
+                Decimal.parse(value)
+            }
+            val actual: Decimal? = Decimal.parseOrNull(value)
+            assertNull(actual, message)
+        }
+    }
+
+    @Test
+    fun parsingRangeIsConsistentWithParsingString(): Unit = repeatTest {
+        val text: String = Random.decimal()
+            .toString()
+        val value = "[$text]"
+
+        val endIndex: Int = value.length - 1
+        val actual: Decimal? = Decimal.parseOrNull(value, 1, endIndex)
+
+        val expected: Decimal = Decimal.parse(text)
+        assertEquals(expected, actual, message = "Input: $value")
+    }
+
+    @Test
+    fun parsingRangeFailsWithNonDecimalCharacters() {
+        val value = "price=1.2.3;"
+        val exception: NumberFormatException = assertFailsWith {
+            Decimal.parse(value, startIndex = 6, endIndex = 11)
+        }
+        val expected: String =
+            errorMessage("Invalid decimal representation", "1.2.3")
+        assertEquals(expected, actual = exception.message)
+    }
+
+    @Test
+    fun parsingRangeFailsWithInvalidIndexes() {
+        val value = "3.14"
+        listOf(-1 to 1, 1 to 5, 2 to 1).forEach { (start: Int, end: Int) ->
+            assertFailsWith<IndexOutOfBoundsException>("Range: $start..$end") {
+                Decimal.parseOrNull(value, start, end)
+            }
+        }
+    }
+
     // ------------------------------ Comparisons ------------------------------
 
     @Test
@@ -334,6 +380,14 @@ class DecimalTest {
         assertTrue(actual > 0)
     }
 
+    @Test
+    fun compareToWithScaleAlignmentBeyondLongRange() {
+        val x: Decimal = Decimal.fromLong(Long.MAX_VALUE)
+        val y: Decimal = Decimal.parse("${Long.MAX_VALUE}.5")
+        assertTrue(x < y)
+        assertTrue(-x > -y)
+    }
+
     // ------------------------- Arithmetic operations -------------------------
 
     @Test
@@ -402,6 +456,15 @@ class DecimalTest {
         assertEquals(expected, actual)
     }
 
+    @Test
+    fun unaryMinusOnLongMinValue() {
+        val x: Decimal = Decimal.fromLong(Long.MIN_VALUE)
+        val actual: Decimal = -x
+        val expected: Decimal = Decimal.parse("${Long.MIN_VALUE}".drop(1))
+        assertEquals(expected, actual)
+        assertEquals(x, -actual)
+    }
+
     @Test
     fun plusIsCommutative(): Unit = repeatTest {
         val x: Decimal = Random.decimal()
@@ -492,6 +555,24 @@ class DecimalTest {
         assertEquals(expected, actual)
     }
 
+    @Test
+    fun plusWithScaleBeyondLongRange() {
+        val x: Decimal = Decimal.parse("1")
+        val y: Decimal = Decimal.parse("0.${"0".repeat(39)}1")
+        val actual: String = (x + y).toString()
+        val expected = "1.${"0".repeat(39)}1"
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun plusStripsTrailingZerosBeyondLongRange() {
+        val x: Decimal = Decimal.parse("0.${"9".repeat(40)}")
+        val y: Decimal = Decimal.parse("0.${"0".repeat(39)}1")
+        val actual: Decimal = x + y
+        val expected: Decimal = Decimal.fromLong(1)
+        assertEquals(expected, actual)
+    }
+
     @Test
     fun plusAvoidingFloatingPointImprecision() {
         val x: Decimal = Decimal.parse("0.1")
@@ -501,6 +582,25 @@ class DecimalTest {
         assertEquals(expected, actual)
     }
 
+    @Test
+    fun plusWithLongOverflow() {
+        val x: Decimal = Decimal.parse("${Long.MAX_VALUE}.9")
+        val y: Decimal = Decimal.parse("0.1")
+        val actual: Decimal = x + y
+        val expected: Decimal = Decimal.parse("9223372036854775808")
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun plusBackToLongRange() {
+        val x: Decimal = Decimal.parse("9223372036854775808")
+        val y: Decimal = Decimal.fromLong(-1)
+        val actual: Decimal = x + y
+        val expected: Decimal = Decimal.fromLong(Long.MAX_VALUE)
+        assertEquals(expected, actual)
+        assertEquals(expected.hashCode(), actual.hashCode())
+    }
+
     @Test
     fun minusHasZeroAsRightIdentityElement(): Unit = repeatTest {
         val x: Decimal = Random.decimal()
@@ -695,6 +795,171 @@ class DecimalTest {
         assertEquals(expected, actual)
     }
 
+    @Test
+    fun timesWithLongOverflow() {
+        val x: Decimal = Decimal.parse("4294967296.5")
+        val y: Decimal = Decimal.parse("4294967296")
+        val actual: Decimal = x * y
+        val expected: Decimal = Decimal.parse("18446744075857035264")
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun timesWithLongMinValueAndMinusOne() {
+        val x: Decimal = Decimal.fromLong(Long.MIN_VALUE)
+        val y: Decimal = Decimal.fromLong(-1)
+        val actual: Decimal = x * y
+        val expected: Decimal = Decimal.parse("9223372036854775808")
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun divWithScaleIsInverseOfTimes(): Unit = repeatTest {
+        val x: Decimal = Random.decimal()
+        val y: Decimal = Random.decimalExcept(Decimal.fromLong(0))
+
+        val actual: Decimal =
+            (x * y).div(y, scale = 31, RoundingMode.Unnecessary)
+
+        assertEquals(expected = x, actual, message = "Inputs: x = $x, y = $y")
+    }
+
+    @Test
+    fun divWithScaleAppliesRoundingMode() {
+        val inputs = "5.5 2.5 1.6 1.1 1 -1 -1.1 -1.6 -2.5 -5.5"
+        val expectations: Map<RoundingMode, String> = mapOf(
+            RoundingMode.Up to "6 3 2 2 1 -1 -2 -2 -3 -6",
+            RoundingMode.Down to "5 2 1 1 1 -1 -1 -1 -2 -5",
+            RoundingMode.Ceiling to "6 3 2 2 1 -1 -1 -1 -2 -5",
+            RoundingMode.Floor to "5 2 1 1 1 -1 -2 -2 -3 -6",
+            RoundingMode.HalfUp to "6 3 2 1 1 -1 -1 -2 -3 -6",
+            RoundingMode.HalfDown to "5 2 2 1 1 -1 -1 -2 -2 -5",
+            RoundingMode.HalfEven to "6 2 2 1 1 -1 -1 -2 -2 -6"
+        )
+        val one: Decimal = Decimal.fromLong(1)
+        expectations.forEach { (roundingMode: RoundingMode, outputs: String) ->
+            val pairs: List<Pair<String, String>> = inputs.split(' ')
+                .zip(outputs.split(' '))
+            pairs.forEach { (input: String, output: String) ->
+                val actual: Decimal =
+                    Decimal.parse(input).div(one, scale = 0, roundingMode)
+                val expected: Decimal = Decimal.parse(output)
+                val message = "Input: $input, rounding mode: $roundingMode"
+                assertEquals(expected, actual, message)
+            }
+        }
+    }
+
+    @Test
+    fun divWithScaleFailsWithUnnecessaryRounding() {
+        val x: Decimal = Decimal.fromLong(1)
+        val y: Decimal = Decimal.fromLong(3)
+        val exception: ArithmeticException = assertFailsWith {
+            x.div(y, scale = 10, RoundingMode.Unnecessary)
+        }
+        val expected: String = errorMessage("Rounding necessary")
+        assertEquals(expected, actual = exception.message)
+    }
+
+    @Test
+    fun divWithScaleFailsWithZeroDivisor() {
+        val x: Decimal = Decimal.parse("3.14")
+        val y: Decimal = Decimal.fromLong(0)
+        val exception: ArithmeticException = assertFailsWith {
+            x.div(y, scale = 2, RoundingMode.HalfEven)
+        }
+        val expected: String = errorMessage("Division by zero")
+        assertEquals(expected, actual = exception.message)
+    }
+
+    @Test
+    fun divWithScaleFailsWithNegativeScale() {
+        val x: Decimal = Decimal.parse("3.14")
+        val y: Decimal = Decimal.fromLong(2)
+        val exception: IllegalArgumentException = assertFailsWith {
+            x.div(y, scale = -1, RoundingMode.HalfEven)
+        }
+        val expected: String = errorMessage("Negative scale", -1)
+        assertEquals(expected, actual = exception.message)
+    }
+
+    @Test
+    fun divWithContextKeepsSignificantDigits() {
+        val context: DecimalContext = DecimalContext.of(3, RoundingMode.HalfUp)
+        val data: List<Triple<String, String, String>> = listOf(
+            Triple("1", "3", "0.333"),
+            Triple("2", "3", "0.667"),
+            Triple("-2", "3", "-0.667"),
+            Triple("0.002", "3", "0.000667"),
+            Triple("20000", "3", "6670"),
+            Triple("999.6", "1", "1000"),
+            Triple("1", "8", "0.125"),
+            Triple("0", "7", "0")
+        )
+        data.forEach { (dividend: String, divisor: String, quotient: String) ->
+            val x: Decimal = Decimal.parse(dividend)
+            val y: Decimal = Decimal.parse(divisor)
+            val actual: Decimal = x.div(y, context)
+            val expected: Decimal = Decimal.parse(quotient)
+            assertEquals(expected, actual, message = "Inputs: x = $x, y = $y")
+        }
+    }
+
+    @Test
+    fun decimalContextFailsWithNonPositivePrecision() {
+        listOf(0, -1).forEach { precision: Int ->
+            val exception: IllegalArgumentException = assertFailsWith {
+                DecimalContext.of(precision, RoundingMode.HalfEven)
+            }
+            val expected: String =
+                errorMessage("Non-positive precision", precision)
+            assertEquals(expected, actual = exception.message)
+        }
+    }
+
+    @Test
+    fun divWithContextKeepsSignificantDigitsOfLargeOperands() {
+        val context: DecimalContext =
+            DecimalContext.of(25, RoundingMode.HalfEven)
+        val x: Decimal = Decimal.parse("1" + "0".repeat(40))
+        val y: Decimal = Decimal.parse("3" + "0".repeat(40))
+        val actual: Decimal = x.div(y, context)
+        val expected: Decimal = Decimal.parse("0." + "3".repeat(25))
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun divWithContextKeepsSignificantDigitsOfLongBounds() {
+        val context: DecimalContext =
+            DecimalContext.of(5, RoundingMode.HalfEven)
+        val min: Decimal = Decimal.fromLong(Long.MIN_VALUE)
+        val max: Decimal = Decimal.fromLong(Long.MAX_VALUE)
+        val three: Decimal = Decimal.fromLong(3)
+        assertEquals(
+            expected = Decimal.parse("-3074500000000000000"),
+            actual = min.div(three, context)
+        )
+        assertEquals(
+            expected = Decimal.fromLong(-1),
+            actual = max.div(min, context)
+        )
+    }
+
+    @Test
+    fun decimalContextEqualsWithSameSettings() {
+        val x: DecimalContext = DecimalContext.of(3, RoundingMode.HalfUp)
+        val y: DecimalContext = DecimalContext.of(3, RoundingMode.HalfUp)
+        assertEquals(x, y)
+        assertEquals(x.hashCode(), y.hashCode())
+    }
+
+    @Test
+    fun decimalContextNotEqualsWithOtherSettings() {
+        val x: DecimalContext = DecimalContext.of(3, RoundingMode.HalfUp)
+        assertNotEquals(x, DecimalContext.of(4, RoundingMode.HalfUp))
+        assertNotEquals(x, DecimalContext.of(3, RoundingMode.HalfEven))
+    }
+
     // ------------------------------ Conversions ------------------------------
 
     @Test
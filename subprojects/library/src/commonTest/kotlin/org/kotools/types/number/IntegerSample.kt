@@ -103,6 +103,22 @@ class IntegerSample {
         parsingFailsWith(" 42")
     }
 
+    @Test
+    fun parsingRange() {
+        val line = "id=42;amount=-000123;label=ticket"
+
+        val id: Integer = Integer.parse(line, startIndex = 3, endIndex = 5)
+        check(id.toString() == "42")
+
+        val amount: Integer? =
+            Integer.parseOrNull(line, startIndex = 13, endIndex = 20)
+        check(amount.toString() == "-123")
+
+        val label: Integer? =
+            Integer.parseOrNull(line, startIndex = 27, endIndex = 33)
+        check(label == null)
+    }
+
     // ------------------------------ Comparisons ------------------------------
 
     @Test
@@ -36,6 +36,17 @@ class IntegerTest {
         assertEquals(expected, actual, message = "Input: $value")
     }
 
+    @Test
+    fun fromLongIsConsistentWithParsingAroundSmallValues() {
+        val values: List<Long> = (-1030L..-1020L) + (-3L..3L) + (1020L..1030L)
+        values.forEach { value: Long ->
+            val actual: Integer = Integer.fromLong(value)
+            val expected: Integer = Integer.parse("$value")
+            assertEquals(expected, actual, message = "Input: $value")
+            assertEquals("$value", actual.toString(), message = "Input: $value")
+        }
+    }
+
     @Test
     fun parsingNormalizesZero(): Unit = repeatTest {
         val value: String = Random.zeroString()
@@ -107,6 +118,78 @@ class IntegerTest {
         assertNull(safeInteger, message)
     }
 
+    @Test
+    fun parsingFailsWithSeveralSigns() {
+        listOf("+-1", "-+1", "--1", "++1", "+", "-").forEach { value: String ->
+            val message = "Input: $value"
+            assertFailsWith<NumberFormatException>(message) {
+                Integer.parse(value)
+            }
+            val actual: Integer? = Integer.parseOrNull(value)
+            assertNull(actual, message)
+        }
+    }
+
+    @Test
+    fun parsingRemovesLeadingZerosOutOfLongRange() {
+        val text = "123456789012345678901234567890"
+        listOf("000$text", "+000$text", "-000$text").forEach {
+            val actual: String = Integer.parse(it)
+                .toString()
+            val expected: String = if (it.startsWith('-')) "-$text" else text
+            assertEquals(expected, actual, message = "Input: $it")
+        }
+    }
+
+    @Test
+    fun parsingWithLongBoundaries() {
+        val values: List<String> = listOf(
+            "9223372036854775807",
+            "9223372036854775808",
+            "-9223372036854775808",
+            "-9223372036854775809"
+        )
+        values.forEach {
+            val actual: String = Integer.parse(it)
+                .toString()
+            assertEquals(expected = it, actual, message = "Input: $it")
+        }
+    }
+
+    @Test
+    fun parsingRangeIsConsistentWithParsingString(): Unit = repeatTest {
+        val text: String = Random.integer()
+            .toString()
+        val value = "[$text]"
+
+        val endIndex: Int = value.length - 1
+        val actual: Integer? = Integer.parseOrNull(value, 1, endIndex)
+
+        val expected: Integer = Integer.parse(text)
+        assertEquals(expected, actual, message = "Input: $value")
+    }
+
+    @Test
+    fun parsingRangeFailsWithNonintegerCharacters() {
+        val value = "id=12a;"
+        val exception: NumberFormatException = assertFailsWith {
+            Integer.parse(value, startIndex = 3, endIndex = 6)
+        }
+        val expected: String =
+            errorMessage("Invalid integer representation", "12a")
+        assertEquals(expected, actual = exception.message)
+    }
+
+    @Test
+    fun parsingRangeFailsWithInvalidIndexes() {
+        val value = "42"
+        listOf(-1 to 1, 1 to 3, 2 to 1).forEach { (start: Int, end: Int) ->
+            assertFailsWith<IndexOutOfBoundsException>("Range: $start..$end") {
+                Integer.parseOrNull(value, start, end)
+            }
+        }
+    }
+
     // ------------------------------ Comparisons ------------------------------
 
     @Test
@@ -351,6 +434,14 @@ class IntegerTest {
         assertEquals(expected, actual)
     }
 
+    @Test
+    fun unaryMinusOnLongMinValue() {
+        val x: Integer = Integer.fromLong(Long.MIN_VALUE)
+        val actual: Integer = -x
+        val expected: Integer = Integer.parse("9223372036854775808")
+        assertEquals(expected, actual)
+    }
+
     @Test
     fun plusIsCommutative(): Unit = repeatTest {
         val x: Integer = Random.integer()
@@ -443,6 +534,25 @@ class IntegerTest {
         assertEquals(expected, actual)
     }
 
+    @Test
+    fun plusOverflowingLongRange() {
+        val x: Integer = Integer.fromLong(Long.MAX_VALUE)
+        val y: Integer = Integer.fromLong(1)
+        val actual: Integer = x + y
+        val expected: Integer = Integer.parse("9223372036854775808")
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun plusReturningBackToLongRange() {
+        val x: Integer = Integer.parse("9223372036854775808")
+        val y: Integer = Integer.fromLong(-1)
+        val actual: Integer = x + y
+        val expected: Integer = Integer.fromLong(Long.MAX_VALUE)
+        assertEquals(expected, actual)
+        assertEquals(expected.hashCode(), actual.hashCode())
+    }
+
     @Test
     fun minusHasZeroAsRightIdentityElement(): Unit = repeatTest {
         val x: Integer = Random.integer()
@@ -508,6 +618,15 @@ class IntegerTest {
         assertEquals(expected, actual)
     }
 
+    @Test
+    fun minusOverflowingLongRange() {
+        val x: Integer = Integer.fromLong(Long.MIN_VALUE)
+        val y: Integer = Integer.fromLong(1)
+        val actual: Integer = x - y
+        val expected: Integer = Integer.parse("-9223372036854775809")
+        assertEquals(expected, actual)
+    }
+
     @Test
     fun timesIsCommutative(): Unit = repeatTest {
         val x: Integer = Random.integer()
@@ -631,6 +750,26 @@ class IntegerTest {
         assertEquals(expected, actual)
     }
 
+    @Test
+    fun timesOverflowingLongRange() {
+        val x: Integer = Integer.fromLong(Long.MIN_VALUE)
+        val y: Integer = Integer.fromLong(-1)
+        val actual: Integer = x * y
+        val expected: Integer = Integer.parse("9223372036854775808")
+        assertEquals(expected, actual)
+    }
+
+    @Test
+    fun divAndRemByNonZeroIntegerWithLongMinValue() {
+        val x: Integer = Integer.fromLong(Long.MIN_VALUE)
+        val y: NonZeroInteger = NonZeroInteger.fromLong(-1)
+        val quotient: Integer = x / y
+        val remainder: NonNegativeInteger = x % y
+        val expected: Integer = Integer.parse("9223372036854775808")
+        assertEquals(expected, actual = quotient)
+        assertEquals(NonNegativeInteger.fromLong(0), actual = remainder)
+    }
+
     @Test
     fun divByNonZeroIntegerSanityCheck() {
         val x: Integer = Integer.parse("922337203685477580700")
@@ -734,6 +873,15 @@ class IntegerTest {
         }
     }
 
+    @Test
+    fun toLongWithLongBoundaries() {
+        listOf(Long.MIN_VALUE, Long.MAX_VALUE).forEach { value: Long ->
+            val integer: Integer = Integer.parse("$value")
+            val actual: Long = integer.toLong()
+            assertEquals(expected = value, actual, message = "Input: $integer")
+        }
+    }
+
     @Test
     fun toLongOrNullIsConsistentWithToLong(): Unit = repeatTest {
         val value: Long = Random.nextLong()
@@ -0,0 +1,57 @@
+package org.kotools.types.collection;
+
+import kotlin.collections.DoubleIterator;
+import kotlin.collections.IntIterator;
+import kotlin.collections.LongIterator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NewClassNamingConvention")
+public class NotEmptyArrayJavaSample {
+    @Test
+    void notEmptyIntArray() {
+        final NotEmptyIntArray array = NotEmptyIntArray.of(1, 2, 3);
+        final IntIterator iterator = array.iterator();
+        int sum = 0;
+        while (iterator.hasNext()) sum += iterator.nextInt();
+        final int[] elements = {1, 2, 3};
+        final boolean check = array.getHead() == 1
+                && array.getSize() == 3
+                && array.get(2) == 3
+                && sum == 6
+                && array.equals(NotEmptyIntArray.fromIntArray(elements))
+                && array.toString().equals("[1, 2, 3]");
+        if (!check) throw new IllegalStateException("Check failed.");
+    }
+
+    @Test
+    void notEmptyLongArray() {
+        final NotEmptyLongArray array = NotEmptyLongArray.of(1, 2, 3);
+        final LongIterator iterator = array.iterator();
+        long sum = 0;
+        while (iterator.hasNext()) sum += iterator.nextLong();
+        final long[] elements = {1, 2, 3};
+        final boolean check = array.getHead() == 1
+                && array.getSize() == 3
+                && array.get(2) == 3
+                && sum == 6
+                && array.equals(NotEmptyLongArray.fromLongArray(elements))
+                && array.toString().equals("[1, 2, 3]");
+        if (!check) throw new IllegalStateException("Check failed.");
+    }
+
+    @Test
+    void notEmptyDoubleArray() {
+        final NotEmptyDoubleArray array = NotEmptyDoubleArray.of(1.5, 2.5);
+        final DoubleIterator iterator = array.iterator();
+        double sum = 0;
+        while (iterator.hasNext()) sum += iterator.nextDouble();
+        final double[] elements = {1.5, 2.5};
+        final boolean check = array.getHead() == 1.5
+                && array.getSize() == 2
+                && array.get(1) == 2.5
+                && sum == 4
+                && array.equals(NotEmptyDoubleArray.fromDoubleArray(elements))
+                && array.toString().equals("[1.5, 2.5]");
+        if (!check) throw new IllegalStateException("Check failed.");
+    }
+}
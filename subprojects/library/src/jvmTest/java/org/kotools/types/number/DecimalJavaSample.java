@@ -89,6 +89,21 @@ public class DecimalJavaSample {
         parsingFailsWith.accept("12a");
     }
 
+    @Test
+    void parsingRange() {
+        final String line = "item=book;price=+012.50;label=ticket";
+
+        final Decimal price = Decimal.parse(line, 16, 23);
+        final boolean check = String.valueOf(price).equals("12.5");
+        if (!check) throw new IllegalStateException("Check failed.");
+
+        try {
+            Decimal.parse(line, 30, 36);
+            throw new IllegalStateException("Check failed.");
+        } catch (NumberFormatException ignored) {
+        }
+    }
+
     // ------------------------------ Comparisons ------------------------------
 
     @Test
@@ -169,6 +184,28 @@ public class DecimalJavaSample {
         if (!check) throw new IllegalStateException("Check failed.");
     }
 
+    @Test
+    void divWithScale() {
+        final Decimal x = Decimal.fromLong(2);
+        final Decimal y = Decimal.fromLong(3);
+        final Decimal up = x.div(y, 2, RoundingMode.Up);
+        final Decimal down = x.div(y, 2, RoundingMode.Down);
+        final boolean check = up.equals(Decimal.parse("0.67"))
+                && down.equals(Decimal.parse("0.66"));
+        if (!check) throw new IllegalStateException("Check failed.");
+    }
+
+    @Test
+    void divWithContext() {
+        final DecimalContext context =
+                DecimalContext.of(3, RoundingMode.HalfEven);
+        final Decimal x = Decimal.parse("2000");
+        final Decimal y = Decimal.fromLong(3);
+        final Decimal result = x.div(y, context);
+        final boolean check = result.equals(Decimal.parse("667"));
+        if (!check) throw new IllegalStateException("Check failed.");
+    }
+
     // ------------------------------ Conversions ------------------------------
 
     @Test
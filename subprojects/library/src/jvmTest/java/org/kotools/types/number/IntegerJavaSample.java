@@ -69,6 +69,23 @@ public class IntegerJavaSample {
         parsingFailsWith.accept(" 42");
     }
 
+    @Test
+    void parsingRange() {
+        final String line = "id=42;amount=-000123;label=ticket";
+
+        final Integer id = Integer.parse(line, 3, 5);
+        final Integer amount = Integer.parse(line, 13, 20);
+        final boolean check = String.valueOf(id).equals("42")
+                && String.valueOf(amount).equals("-123");
+        if (!check) throw new IllegalStateException("Check failed.");
+
+        try {
+            Integer.parse(line, 27, 33);
+            throw new IllegalStateException("Check failed.");
+        } catch (NumberFormatException ignored) {
+        }
+    }
+
     // ------------------------------ Comparisons ------------------------------
 
     @Test